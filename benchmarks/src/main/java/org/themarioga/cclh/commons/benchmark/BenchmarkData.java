@@ -0,0 +1,76 @@
+package org.themarioga.cclh.commons.benchmark;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.themarioga.cclh.commons.enums.CardTypeEnum;
+import org.themarioga.cclh.commons.models.Dictionary;
+import org.themarioga.cclh.commons.services.intf.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Users, rooms and the default dictionary of the benchmarks, created through the services like a bot does.
+ */
+public class BenchmarkData {
+
+    private static final int BLACK_CARDS = 200;
+    private static final int WHITE_CARDS = 600;
+
+    private final AtomicLong nextId = new AtomicLong(1000);
+
+    private final TransactionTemplate transactionTemplate;
+    private final UserService userService;
+    private final LanguageService languageService;
+    private final DictionaryService dictionaryService;
+    private final CardService cardService;
+    private final ConfigurationService configurationService;
+    private final JdbcTemplate jdbcTemplate;
+
+    public BenchmarkData(ApplicationContext context) {
+        this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        this.userService = context.getBean(UserService.class);
+        this.languageService = context.getBean(LanguageService.class);
+        this.dictionaryService = context.getBean(DictionaryService.class);
+        this.cardService = context.getBean(CardService.class);
+        this.configurationService = context.getBean(ConfigurationService.class);
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    public <T> T inTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+
+    public long nextId() {
+        return nextId.incrementAndGet();
+    }
+
+    public long createUser() {
+        long userId = nextId();
+        inTransaction(() -> userService.createOrReactivate(userId, "User " + userId, languageService.getLanguage("es")));
+        return userId;
+    }
+
+    public void createDefaultDictionary() {
+        // Big enough for any game of the benchmarks
+        long creatorId = createUser();
+        Dictionary dictionary = inTransaction(() -> {
+            Dictionary benchmarkDictionary = dictionaryService.create("Benchmark", userService.getById(creatorId));
+            cardService.create(benchmarkDictionary, CardTypeEnum.BLACK, texts("Black card", BLACK_CARDS));
+            cardService.create(benchmarkDictionary, CardTypeEnum.WHITE, texts("White card", WHITE_CARDS));
+            return benchmarkDictionary;
+        });
+
+        jdbcTemplate.update("UPDATE t_configuration SET conf_value = ? WHERE conf_key = 'game_default_dictionary_id'", String.valueOf(dictionary.getId()));
+        configurationService.reload();
+    }
+
+    private static List<String> texts(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> prefix + " " + i).toList();
+    }
+
+}
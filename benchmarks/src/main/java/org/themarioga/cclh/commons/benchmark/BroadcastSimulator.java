@@ -0,0 +1,135 @@
+package org.themarioga.cclh.commons.benchmark;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.themarioga.cclh.commons.enums.BroadcastTargetEnum;
+import org.themarioga.cclh.commons.models.User;
+import org.themarioga.cclh.commons.services.intf.BroadcastService;
+import org.themarioga.cclh.commons.services.intf.UserService;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Broadcasts to a large population of users and rooms through BroadcastService with a sender that only counts,
+ * and compares the heap it retains with loading every user in a list as getAllUsers does.
+ * Reports the messages sent, the busiest one second window against the configured rate and the heap retained.
+ *
+ * <p>The settings are Spring properties, for example:
+ * {@code java -cp target/benchmarks.jar org.themarioga.cclh.commons.benchmark.BroadcastSimulator --simulator.users=100000 --cclh.broadcast.messages-per-second=5000}
+ */
+public class BroadcastSimulator {
+
+    private static final int INSERT_BATCH = 1000;
+    private static final int HEAP_SAMPLES = 20;
+
+    private final int users;
+    private final int rooms;
+    private final int inactiveEvery;
+    private final int batchSize;
+    private final double messagesPerSecond;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BenchmarkData benchmarkData;
+    private final BroadcastService broadcastService;
+    private final UserService userService;
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    private final List<long[]> batches = new ArrayList<>();
+    private long sent;
+    private long elapsedNanos;
+    private long baselineHeap;
+    private long maxBroadcastHeap;
+    private long allUsersHeap;
+
+    public BroadcastSimulator(ConfigurableApplicationContext context) {
+        Environment environment = context.getEnvironment();
+        this.users = environment.getProperty("simulator.users", Integer.class, 100_000);
+        this.rooms = environment.getProperty("simulator.rooms", Integer.class, 10_000);
+        this.inactiveEvery = environment.getProperty("simulator.inactive-every", Integer.class, 10);
+        this.batchSize = environment.getProperty("cclh.broadcast.batch-size", Integer.class, 25);
+        this.messagesPerSecond = environment.getProperty("cclh.broadcast.messages-per-second", Double.class, 25.0);
+
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        this.benchmarkData = new BenchmarkData(context);
+        this.broadcastService = context.getBean(BroadcastService.class);
+        this.userService = context.getBean(UserService.class);
+    }
+
+    public static void main(String[] args) {
+        try (ConfigurableApplicationContext context = BenchmarkApplication.start(args)) {
+            BroadcastSimulator broadcastSimulator = new BroadcastSimulator(context);
+            broadcastSimulator.run();
+            broadcastSimulator.report(System.out);
+        }
+    }
+
+    public void run() {
+        // Telegram user ids are positive and group ids negative
+        insert("INSERT INTO t_user (id, name, active, lang_id, creation_date) VALUES (?, ?, ?, 'es', CURRENT_TIMESTAMP)", LongStream.rangeClosed(1, users));
+        insert("INSERT INTO t_room (id, name, active, creation_date) VALUES (?, ?, ?, CURRENT_TIMESTAMP)", LongStream.rangeClosed(1, rooms).map(id -> -id));
+
+        baselineHeap = usedHeapAfterGc();
+
+        int sampleEvery = Math.max(1, (users + rooms) / batchSize / HEAP_SAMPLES);
+        long start = System.nanoTime();
+        sent = broadcastService.broadcast("simulator", (BroadcastTargetEnum target, List<Long> ids) -> {
+            batches.add(new long[]{System.nanoTime(), ids.size()});
+            if (batches.size() % sampleEvery == 0) maxBroadcastHeap = Math.max(maxBroadcastHeap, usedHeapAfterGc() - baselineHeap);
+        });
+        elapsedNanos = System.nanoTime() - start;
+
+        List<User> allUsers = benchmarkData.inTransaction(userService::getAllUsers);
+        allUsersHeap = usedHeapAfterGc() - baselineHeap;
+        if (allUsers.isEmpty()) throw new IllegalStateException("No users loaded");
+    }
+
+    public void report(PrintStream out) {
+        double seconds = elapsedNanos / 1e9;
+        out.printf("Recipients: %d users and %d rooms, one in %d inactive, batches of %d at %.0f messages/s%n", users, rooms, inactiveEvery, batchSize, messagesPerSecond);
+        out.printf("Sent: %d messages in %d batches in %.1f s (%.0f messages/s)%n", sent, batches.size(), seconds, sent / seconds);
+        out.printf("Busiest second: %d messages, limit %.0f plus one batch%n", busiestSecond(), messagesPerSecond);
+        out.printf("Heap retained: %.1f MB during the broadcast, %.1f MB by getAllUsers%n", maxBroadcastHeap / 1048576.0, allUsersHeap / 1048576.0);
+    }
+
+    private void insert(String sql, LongStream ids) {
+        List<Object[]> rows = new ArrayList<>(INSERT_BATCH);
+        ids.forEach(id -> {
+            rows.add(new Object[]{id, "Recipient " + id, id % inactiveEvery != 0});
+            if (rows.size() == INSERT_BATCH) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        });
+        if (!rows.isEmpty()) jdbcTemplate.batchUpdate(sql, rows);
+    }
+
+    private long busiestSecond() {
+        // Sliding one second window over the batch timestamps
+        long busiest = 0;
+        long inWindow = 0;
+        int first = 0;
+        for (long[] batch : batches) {
+            inWindow += batch[1];
+            while (batch[0] - batches.get(first)[0] >= TimeUnit.SECONDS.toNanos(1)) {
+                inWindow -= batches.get(first)[1];
+                first++;
+            }
+            busiest = Math.max(busiest, inWindow);
+        }
+
+        return busiest;
+    }
+
+    private long usedHeapAfterGc() {
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+}
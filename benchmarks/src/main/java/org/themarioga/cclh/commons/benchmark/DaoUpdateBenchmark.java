@@ -0,0 +1,123 @@
+package org.themarioga.cclh.commons.benchmark;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.themarioga.cclh.commons.dao.intf.GameDao;
+import org.themarioga.cclh.commons.dao.intf.PlayerDao;
+import org.themarioga.cclh.commons.dao.intf.TableDao;
+import org.themarioga.cclh.commons.models.Game;
+import org.themarioga.cclh.commons.models.Player;
+import org.themarioga.cclh.commons.services.intf.GameService;
+import org.themarioga.cclh.commons.services.intf.PlayerService;
+
+import jakarta.persistence.EntityManager;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The updates a playCard command makes on its player, table and game, with the whole round graph loaded in the session:
+ * merging every managed entity as update used to do, against the update of the DAOs that leaves managed entities to dirty checking.
+ * The difference is the cascade traversal saved per command.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class DaoUpdateBenchmark {
+
+    @Param({"3", "9"})
+    private int players;
+
+    private ConfigurableApplicationContext context;
+    private PlatformTransactionManager transactionManager;
+    private EntityManager entityManager;
+    private GameDao gameDao;
+    private TableDao tableDao;
+    private PlayerDao playerDao;
+    private GameService gameService;
+
+    private long roomId;
+    private TransactionStatus transaction;
+    private Game game;
+    private Player player;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkApplication.start();
+        transactionManager = context.getBean(PlatformTransactionManager.class);
+        entityManager = context.getBean(EntityManager.class);
+        gameDao = context.getBean(GameDao.class);
+        tableDao = context.getBean(TableDao.class);
+        playerDao = context.getBean(PlayerDao.class);
+        gameService = context.getBean(GameService.class);
+        PlayerService playerService = context.getBean(PlayerService.class);
+
+        BenchmarkData benchmarkData = new BenchmarkData(context);
+        benchmarkData.createDefaultDictionary();
+
+        // A started round, every player with a full hand
+        roomId = benchmarkData.nextId();
+        long[] userIds = new long[players];
+        for (int i = 0; i < userIds.length; i++) {
+            userIds[i] = benchmarkData.createUser();
+        }
+        benchmarkData.inTransaction(() -> gameService.create(roomId, "Benchmark " + roomId, userIds[0]));
+        for (long userId : userIds) {
+            benchmarkData.inTransaction(() -> {
+                Game createdGame = gameService.getByRoomId(roomId);
+                return gameService.addPlayer(createdGame, playerService.create(createdGame, userId));
+            });
+        }
+        benchmarkData.inTransaction(() -> gameService.startGame(gameService.getByRoomId(roomId)));
+        benchmarkData.inTransaction(() -> gameService.startRound(gameService.getByRoomId(roomId)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void loadGame() {
+        transaction = transactionManager.getTransaction(new DefaultTransactionDefinition());
+
+        // Everything a command may touch, so merge has the full graph to walk
+        game = gameService.getByRoomId(roomId);
+        Hibernate.initialize(game.getTable().getPlayedCards());
+        Hibernate.initialize(game.getTable().getVotedCards());
+        Hibernate.initialize(game.getDeletionVotes());
+        for (Player gamePlayer : game.getPlayers()) {
+            Hibernate.initialize(gamePlayer.getHand());
+            Hibernate.initialize(gamePlayer.getPlayedCards());
+            Hibernate.initialize(gamePlayer.getVotedCards());
+        }
+        player = game.getPlayers().get(0);
+    }
+
+    @TearDown(Level.Iteration)
+    public void rollback() {
+        transactionManager.rollback(transaction);
+    }
+
+    @Benchmark
+    public Game merge() {
+        Session session = entityManager.unwrap(Session.class);
+        session.merge(player);
+        session.merge(game.getTable());
+        return session.merge(game);
+    }
+
+    @Benchmark
+    public Game update() {
+        playerDao.update(player);
+        tableDao.update(game.getTable());
+        return gameDao.update(game);
+    }
+
+}
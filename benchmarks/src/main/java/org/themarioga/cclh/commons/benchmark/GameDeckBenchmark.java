@@ -0,0 +1,103 @@
+package org.themarioga.cclh.commons.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.themarioga.cclh.commons.util.GameDeck;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Drains a white deck in hands of five cards, with the primitive deck against a list of deck card wrappers
+ * drawn the way Game.deckCards used to be (copy the top of the list, then removeAll).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameDeckBenchmark {
+
+    private static final int CARDS_PER_DRAW = 5;
+
+    @Param({"500", "2000"})
+    private int deckSize;
+
+    private long seed;
+    private long[] cardIds;
+
+    @Setup
+    public void setup() {
+        seed = new Random(42).nextLong();
+        cardIds = LongStream.range(0, deckSize).toArray();
+    }
+
+    @Benchmark
+    public void deckCardList(Blackhole blackhole) {
+        List<DeckCard> deckCards = new ArrayList<>(cardIds.length);
+        for (int position = 0; position < cardIds.length; position++) {
+            deckCards.add(new DeckCard(cardIds[position], position));
+        }
+        Collections.shuffle(deckCards, new Random(seed));
+
+        while (!deckCards.isEmpty()) {
+            List<DeckCard> drawnCards = new ArrayList<>(deckCards.subList(0, Math.min(CARDS_PER_DRAW, deckCards.size())));
+            deckCards.removeAll(drawnCards);
+            blackhole.consume(drawnCards);
+        }
+    }
+
+    @Benchmark
+    public void primitiveDeck(Blackhole blackhole) {
+        GameDeck gameDeck = new GameDeck(seed, cardIds, null);
+
+        while (gameDeck.remaining() > 0) {
+            blackhole.consume(gameDeck.draw(CARDS_PER_DRAW));
+        }
+    }
+
+    @Benchmark
+    public void primitiveDeckRestore(Blackhole blackhole) {
+        // Rebuilt from the persisted cursor on every draw, as a game that is not kept in memory does
+        Long cursor = null;
+        int remaining = cardIds.length;
+        while (remaining > 0) {
+            GameDeck gameDeck = new GameDeck(seed, cardIds, cursor);
+            blackhole.consume(gameDeck.draw(CARDS_PER_DRAW));
+            cursor = gameDeck.getCursor();
+            remaining = gameDeck.remaining();
+        }
+    }
+
+    private static final class DeckCard {
+
+        private final long cardId;
+        private final int position;
+
+        private DeckCard(long cardId, int position) {
+            this.cardId = cardId;
+            this.position = position;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            DeckCard that = (DeckCard) o;
+            return cardId == that.cardId && position == that.position;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(cardId, position);
+        }
+
+    }
+
+}
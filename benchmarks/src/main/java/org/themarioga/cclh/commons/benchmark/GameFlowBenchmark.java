@@ -0,0 +1,112 @@
+package org.themarioga.cclh.commons.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.themarioga.cclh.commons.enums.TableStatusEnum;
+import org.themarioga.cclh.commons.models.Game;
+import org.themarioga.cclh.commons.models.Player;
+import org.themarioga.cclh.commons.services.intf.GameService;
+import org.themarioga.cclh.commons.services.intf.PlayerService;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Plays a whole round the way a bot does, one transaction per user action:
+ * create, addPlayer, startGame, startRound, playCard for every player, voteForCard until the table ends and endRound.
+ * Each thread plays in its own room with its own users, the game is deleted after every round.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameFlowBenchmark {
+
+    @Param({"3", "9"})
+    private int players;
+
+    private ConfigurableApplicationContext context;
+    private BenchmarkData benchmarkData;
+    private GameService gameService;
+    private PlayerService playerService;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkApplication.start();
+        benchmarkData = new BenchmarkData(context);
+        gameService = context.getBean(GameService.class);
+        playerService = context.getBean(PlayerService.class);
+
+        benchmarkData.createDefaultDictionary();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Game playRound(Room room) {
+        long roomId = room.roomId;
+
+        inTransaction(() -> gameService.create(roomId, "Benchmark " + roomId, room.userIds[0]));
+        for (long userId : room.userIds) {
+            inTransaction(() -> {
+                Game game = gameService.getByRoomId(roomId);
+                return gameService.addPlayer(game, playerService.create(game, userId));
+            });
+        }
+
+        inTransaction(() -> gameService.startGame(gameService.getByRoomId(roomId)));
+        inTransaction(() -> gameService.startRound(gameService.getByRoomId(roomId)));
+
+        for (long userId : room.userIds) {
+            inTransaction(() -> {
+                Player player = playerService.findByUserId(userId);
+                return gameService.playCard(gameService.getByRoomId(roomId), userId, player.getHand().get(0).getCard().getId());
+            });
+        }
+
+        for (long userId : room.userIds) {
+            TableStatusEnum status = inTransaction(() -> {
+                Game game = gameService.getByRoomId(roomId);
+                if (game.getTable().getStatus() != TableStatusEnum.VOTING) return game.getTable().getStatus();
+
+                long cardId = game.getTable().getPlayedCards().get(0).getCard().getId();
+                return gameService.voteForCard(game, userId, cardId).getTable().getStatus();
+            });
+            if (status != TableStatusEnum.VOTING) break;
+        }
+
+        return inTransaction(() -> gameService.endRound(gameService.getByRoomId(roomId)));
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return benchmarkData.inTransaction(action);
+    }
+
+    @State(Scope.Thread)
+    public static class Room {
+
+        private long roomId;
+        private long[] userIds;
+
+        @Setup(Level.Trial)
+        public void setup(GameFlowBenchmark benchmark) {
+            roomId = benchmark.benchmarkData.nextId();
+            userIds = new long[benchmark.players];
+            for (int i = 0; i < userIds.length; i++) {
+                userIds[i] = benchmark.benchmarkData.createUser();
+            }
+        }
+
+        @TearDown(Level.Invocation)
+        public void deleteGame(GameFlowBenchmark benchmark) {
+            benchmark.inTransaction(() -> benchmark.gameService.delete(benchmark.gameService.getByRoomId(roomId)));
+        }
+
+    }
+
+}
@@ -0,0 +1,323 @@
+package org.themarioga.cclh.commons.benchmark;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.themarioga.cclh.commons.enums.GameStatusEnum;
+import org.themarioga.cclh.commons.enums.GameTypeEnum;
+import org.themarioga.cclh.commons.enums.TableStatusEnum;
+import org.themarioga.cclh.commons.exceptions.ApplicationException;
+import org.themarioga.cclh.commons.models.*;
+import org.themarioga.cclh.commons.services.intf.*;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Plays whole games in many rooms at the same time, the way hundreds of Telegram groups do.
+ * Every player acts on its own after a random think time, so the actions of the players of a room race each other.
+ * Reports throughput, latency percentiles and optimistic lock conflicts per operation, errors and broken game invariants.
+ *
+ * <p>The settings are Spring properties, for example:
+ * {@code java -cp target/benchmarks.jar org.themarioga.cclh.commons.benchmark.LoadSimulator --simulator.rooms=200 --simulator.players=5}
+ */
+public class LoadSimulator {
+
+    private static final int MAX_REPORTED_VIOLATIONS = 20;
+
+    private final int rooms;
+    private final int players;
+    private final int rounds;
+    private final long minThinkMillis;
+    private final long maxThinkMillis;
+    private final List<GameTypeEnum> gameTypes;
+    private final boolean useExecutor;
+
+    private final BenchmarkData benchmarkData;
+    private final GameService gameService;
+    private final PlayerService playerService;
+    private final ConfigurationService configurationService;
+    private final GameCommandExecutor gameCommandExecutor;
+    private final OptimisticLockRetrier optimisticLockRetrier;
+
+    private final ScheduledExecutorService playerThreads;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<String, Timer> timers = new ConcurrentSkipListMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentSkipListMap<>();
+    private final Queue<String> violations = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger violationCount = new AtomicInteger();
+    private final AtomicInteger completedGames = new AtomicInteger();
+    private final AtomicInteger failedGames = new AtomicInteger();
+
+    private long elapsedNanos;
+
+    public LoadSimulator(ConfigurableApplicationContext context) {
+        Environment environment = context.getEnvironment();
+        this.rooms = environment.getProperty("simulator.rooms", Integer.class, 50);
+        this.players = environment.getProperty("simulator.players", Integer.class, 4);
+        this.rounds = environment.getProperty("simulator.rounds", Integer.class, 3);
+        this.minThinkMillis = environment.getProperty("simulator.think-min-ms", Long.class, 0L);
+        this.maxThinkMillis = environment.getProperty("simulator.think-max-ms", Long.class, 50L);
+        this.gameTypes = Arrays.stream(environment.getProperty("simulator.game-types", String[].class, new String[]{"DEMOCRACY", "CLASSIC", "DICTATORSHIP"})).map(GameTypeEnum::valueOf).toList();
+        this.useExecutor = environment.getProperty("simulator.use-executor", Boolean.class, true);
+
+        this.benchmarkData = new BenchmarkData(context);
+        this.gameService = context.getBean(GameService.class);
+        this.playerService = context.getBean(PlayerService.class);
+        this.configurationService = context.getBean(ConfigurationService.class);
+        this.gameCommandExecutor = context.getBean(GameCommandExecutor.class);
+        this.optimisticLockRetrier = context.getBean(OptimisticLockRetrier.class);
+
+        this.playerThreads = Executors.newScheduledThreadPool(environment.getProperty("simulator.threads", Integer.class, 32));
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        try (ConfigurableApplicationContext context = BenchmarkApplication.start(args)) {
+            LoadSimulator loadSimulator = new LoadSimulator(context);
+            loadSimulator.run();
+            loadSimulator.report(System.out);
+        }
+    }
+
+    public void run() throws InterruptedException {
+        benchmarkData.createDefaultDictionary();
+
+        List<SimulatedRoom> simulatedRooms = new ArrayList<>(rooms);
+        for (int i = 0; i < rooms; i++) {
+            simulatedRooms.add(new SimulatedRoom(gameTypes.get(i % gameTypes.size())));
+        }
+
+        ExecutorService roomThreads = Executors.newFixedThreadPool(rooms);
+        long start = System.nanoTime();
+        try {
+            roomThreads.invokeAll(simulatedRooms.stream().map(room -> (Callable<Void>) () -> {
+                room.play();
+                return null;
+            }).toList());
+        } finally {
+            elapsedNanos = System.nanoTime() - start;
+            roomThreads.shutdown();
+            playerThreads.shutdown();
+        }
+    }
+
+    public void report(PrintStream out) {
+        double elapsedSeconds = elapsedNanos / 1e9;
+        long operations = timers.values().stream().mapToLong(Timer::count).sum();
+
+        out.printf("Rooms: %d x %d players, %d rounds, types %s, executor %s%n", rooms, players, rounds, gameTypes, useExecutor);
+        out.printf("Games: %d completed, %d failed in %.1f s (%.2f games/s, %.1f ops/s)%n", completedGames.get(), failedGames.get(), elapsedSeconds, completedGames.get() / elapsedSeconds, operations / elapsedSeconds);
+        out.println();
+        out.printf("%-24s %8s %10s %10s %10s %10s%n", "operation", "count", "p50 ms", "p99 ms", "max ms", "conflicts");
+        for (Map.Entry<String, Timer> timer : timers.entrySet()) {
+            ValueAtPercentile[] percentiles = timer.getValue().takeSnapshot().percentileValues();
+            out.printf("%-24s %8d %10.2f %10.2f %10.2f %10d%n", timer.getKey(), timer.getValue().count(),
+                    percentiles[0].value(TimeUnit.MILLISECONDS), percentiles[1].value(TimeUnit.MILLISECONDS), timer.getValue().max(TimeUnit.MILLISECONDS),
+                    optimisticLockRetrier.getConflictCount(timer.getKey()));
+        }
+        out.println();
+        out.printf("Errors: %d%n", errors.values().stream().mapToLong(LongAdder::sum).sum());
+        errors.forEach((error, count) -> out.printf("  %-48s %d%n", error, count.sum()));
+        out.printf("Invariant violations: %d%n", violationCount.get());
+        violations.forEach(violation -> out.println("  " + violation));
+    }
+
+    private <T> T perform(long roomId, String operation, Supplier<T> action) {
+        Timer timer = timers.computeIfAbsent(operation, key -> Timer.builder("simulator.operation").tag("operation", key)
+                .publishPercentiles(0.5, 0.99).distributionStatisticExpiry(Duration.ofDays(1)).register(meterRegistry));
+
+        long start = System.nanoTime();
+        try {
+            return useExecutor ? gameCommandExecutor.execute(roomId, operation, action) : optimisticLockRetrier.execute(operation, action);
+        } catch (RuntimeException e) {
+            String error = e instanceof ApplicationException applicationException && applicationException.getErrorEnum() != null
+                    ? applicationException.getErrorEnum().name() : e.getClass().getSimpleName();
+            errors.computeIfAbsent(operation + " " + error, key -> new LongAdder()).increment();
+            throw e;
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void violation(long roomId, String message) {
+        violationCount.incrementAndGet();
+        if (violations.size() < MAX_REPORTED_VIOLATIONS) violations.add("Room " + roomId + ": " + message);
+    }
+
+    private long thinkTime() {
+        return maxThinkMillis > minThinkMillis ? ThreadLocalRandom.current().nextLong(minThinkMillis, maxThinkMillis + 1) : minThinkMillis;
+    }
+
+    private class SimulatedRoom {
+
+        private final GameTypeEnum gameType;
+        private final long roomId;
+        private final long[] userIds;
+
+        private SimulatedRoom(GameTypeEnum gameType) {
+            this.gameType = gameType;
+            this.roomId = benchmarkData.nextId();
+            this.userIds = new long[players];
+            for (int i = 0; i < players; i++) {
+                userIds[i] = benchmarkData.createUser();
+            }
+        }
+
+        private void play() {
+            try {
+                setUp();
+
+                int round = 0;
+                GameStatusEnum status;
+                do {
+                    round++;
+                    status = playRound(round);
+                } while (status == GameStatusEnum.STARTED && round <= rounds);
+
+                if (status != GameStatusEnum.ENDED || round != rounds) violation(roomId, "game ended with status " + status + " after round " + round + " of " + rounds);
+
+                completedGames.incrementAndGet();
+            } catch (RuntimeException e) {
+                failedGames.incrementAndGet();
+            } finally {
+                tearDown();
+            }
+        }
+
+        private void setUp() {
+            perform(roomId, "create", () -> gameService.create(roomId, "Room " + roomId, userIds[0]));
+            perform(roomId, "setType", () -> gameService.setType(gameService.getByRoomId(roomId), gameType));
+            perform(roomId, "setNumberOfRoundsToEnd", () -> gameService.setNumberOfRoundsToEnd(gameService.getByRoomId(roomId), rounds));
+
+            // Everybody joins at once
+            concurrently(userIds, userId -> perform(roomId, "addPlayer", () -> {
+                Game game = gameService.getByRoomId(roomId);
+                return gameService.addPlayer(game, playerService.create(game, userId));
+            }));
+
+            int playerCount = read(() -> gameService.getByRoomId(roomId).getPlayers().size());
+            if (playerCount != players) violation(roomId, playerCount + " players joined instead of " + players);
+
+            perform(roomId, "startGame", () -> gameService.startGame(gameService.getByRoomId(roomId)));
+        }
+
+        private GameStatusEnum playRound(int round) {
+            perform(roomId, "startRound", () -> gameService.startRound(gameService.getByRoomId(roomId)));
+
+            RoundState started = readRound();
+            if (started.roundNumber != round) violation(roomId, "round " + started.roundNumber + " started instead of " + round);
+            if (started.status != TableStatusEnum.PLAYING) violation(roomId, "table is " + started.status + " after starting round " + round);
+            for (Map.Entry<Long, Integer> hand : started.handSizes.entrySet()) {
+                if (hand.getValue() != configurationService.getGameWhiteCardsInHand()) violation(roomId, "user " + hand.getKey() + " has " + hand.getValue() + " cards in round " + round);
+            }
+
+            // Everybody but the president plays a card, and the president or everybody votes
+            long[] playingUserIds = Arrays.stream(userIds).filter(userId -> gameType == GameTypeEnum.DEMOCRACY || !Objects.equals(userId, started.presidentUserId)).toArray();
+            long[] votingUserIds = gameType == GameTypeEnum.DEMOCRACY ? userIds : new long[]{started.presidentUserId};
+
+            concurrently(playingUserIds, userId -> perform(roomId, "playCard", () -> {
+                Player player = playerService.findByUserId(userId);
+                return gameService.playCard(gameService.getByRoomId(roomId), userId, player.getHand().get(0).getCard().getId());
+            }));
+
+            RoundState played = readRound();
+            if (played.status != TableStatusEnum.VOTING) violation(roomId, "table is " + played.status + " after everybody played in round " + round);
+            if (played.playedCards != playingUserIds.length) violation(roomId, played.playedCards + " cards played by " + playingUserIds.length + " players in round " + round);
+            if (played.playingPlayers != played.playedCards) violation(roomId, "a player played more than one card in round " + round);
+
+            concurrently(votingUserIds, userId -> perform(roomId, "voteForCard", () -> {
+                Game game = gameService.getByRoomId(roomId);
+                List<PlayedCard> playedCards = game.getTable().getPlayedCards();
+                long cardId = playedCards.get(ThreadLocalRandom.current().nextInt(playedCards.size())).getCard().getId();
+                return gameService.voteForCard(game, userId, cardId);
+            }));
+
+            RoundState voted = readRound();
+            if (voted.status != TableStatusEnum.ENDING) violation(roomId, "table is " + voted.status + " after everybody voted in round " + round);
+            if (voted.votedCards != votingUserIds.length) violation(roomId, voted.votedCards + " votes from " + votingUserIds.length + " voters in round " + round);
+            if (voted.votingPlayers != voted.votedCards) violation(roomId, "a player voted more than once in round " + round);
+            if (voted.votes != voted.votedCards) violation(roomId, voted.votes + " votes counted for " + voted.votedCards + " votes in round " + round);
+
+            perform(roomId, "incrementPoints", () -> {
+                PlayedCard mostVotedCard = gameService.getMostVotedCard(gameService.getByRoomId(roomId).getId());
+                playerService.incrementPoints(mostVotedCard.getPlayer());
+                return mostVotedCard;
+            });
+
+            return perform(roomId, "endRound", () -> gameService.endRound(gameService.getByRoomId(roomId)).getStatus());
+        }
+
+        private void tearDown() {
+            try {
+                perform(roomId, "delete", () -> gameService.delete(gameService.getByRoomId(roomId)));
+            } catch (RuntimeException e) {
+                // Already counted as an error
+            }
+        }
+
+        private RoundState readRound() {
+            return read(() -> new RoundState(gameService.getByRoomId(roomId)));
+        }
+
+        private <T> T read(Supplier<T> action) {
+            return useExecutor ? gameCommandExecutor.execute(roomId, action) : benchmarkData.inTransaction(action);
+        }
+
+        private void concurrently(long[] actingUserIds, LongConsumer action) {
+            List<CompletableFuture<Void>> actions = new ArrayList<>(actingUserIds.length);
+            for (long userId : actingUserIds) {
+                CompletableFuture<Void> result = new CompletableFuture<>();
+                playerThreads.schedule(() -> {
+                    try {
+                        action.accept(userId);
+                        result.complete(null);
+                    } catch (RuntimeException e) {
+                        result.completeExceptionally(e);
+                    }
+                }, thinkTime(), TimeUnit.MILLISECONDS);
+                actions.add(result);
+            }
+
+            CompletableFuture.allOf(actions.toArray(new CompletableFuture[0])).join();
+        }
+
+    }
+
+    private static class RoundState {
+
+        private final int roundNumber;
+        private final TableStatusEnum status;
+        private final Long presidentUserId;
+        private final Map<Long, Integer> handSizes = new HashMap<>();
+        private final int playedCards;
+        private final int playingPlayers;
+        private final int votedCards;
+        private final int votingPlayers;
+        private final int votes;
+
+        private RoundState(Game game) {
+            Table table = game.getTable();
+            this.roundNumber = table.getCurrentRoundNumber();
+            this.status = table.getStatus();
+            this.presidentUserId = table.getCurrentPresident() != null ? table.getCurrentPresident().getUser().getId() : null;
+            for (Player player : game.getPlayers()) {
+                handSizes.put(player.getUser().getId(), player.getHand().size());
+            }
+            this.playedCards = table.getPlayedCards().size();
+            this.playingPlayers = (int) table.getPlayedCards().stream().map(playedCard -> playedCard.getPlayer().getId()).distinct().count();
+            this.votedCards = table.getVotedCards().size();
+            this.votingPlayers = (int) table.getVotedCards().stream().map(votedCard -> votedCard.getPlayer().getId()).distinct().count();
+            this.votes = table.getPlayedCards().stream().mapToInt(PlayedCard::getVotes).sum();
+        }
+
+    }
+
+}
@@ -0,0 +1,89 @@
+package org.themarioga.cclh.commons.benchmark;
+
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.themarioga.cclh.commons.dao.intf.UserDao;
+import org.themarioga.cclh.commons.models.User;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Username lookups on a large t_user: the substring LIKE getByUsername used to run, which scans the whole table,
+ * against the exact match and the prefix search on the username index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class UsernameLookupBenchmark {
+
+    private static final int INSERT_BATCH = 1000;
+
+    @Param({"10000", "100000"})
+    private int users;
+
+    private ConfigurableApplicationContext context;
+    private BenchmarkData benchmarkData;
+    private EntityManager entityManager;
+    private UserDao userDao;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkApplication.start();
+        benchmarkData = new BenchmarkData(context);
+        entityManager = context.getBean(EntityManager.class);
+        userDao = context.getBean(UserDao.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<Object[]> rows = new ArrayList<>(INSERT_BATCH);
+        for (int id = 1; id <= users; id++) {
+            rows.add(new Object[]{id, name(id), name(id).toLowerCase()});
+            if (rows.size() == INSERT_BATCH || id == users) {
+                jdbcTemplate.batchUpdate("INSERT INTO t_user (id, name, username, active, lang_id, creation_date) VALUES (?, ?, ?, true, 'es', CURRENT_TIMESTAMP)", rows);
+                rows.clear();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public User substring() {
+        // Zero padded names, so the pattern matches a single user
+        String name = name(randomId());
+        return benchmarkData.inTransaction(() -> entityManager.unwrap(Session.class).createQuery("SELECT u FROM User u WHERE u.name LIKE :username", User.class).setParameter("username", "%" + name + "%").getSingleResultOrNull());
+    }
+
+    @Benchmark
+    public User exact() {
+        String name = name(randomId());
+        return benchmarkData.inTransaction(() -> userDao.getByUsername(name));
+    }
+
+    @Benchmark
+    public List<User> prefix() {
+        // All but the last two digits, a hundred candidates of which the first 10 are read
+        String prefix = name(randomId()).substring(0, 10);
+        return benchmarkData.inTransaction(() -> userDao.findByUsernamePrefix(prefix, 10));
+    }
+
+    private int randomId() {
+        return ThreadLocalRandom.current().nextInt(1, users + 1);
+    }
+
+    private static String name(int id) {
+        return String.format("User_%07d", id);
+    }
+
+}
@@ -0,0 +1,22 @@
+package org.themarioga.cclh.commons.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HibernateBatchConfiguration {
+
+    // Defaults only, properties set by the bot take precedence
+    @Bean
+    public HibernatePropertiesCustomizer hibernateBatchCustomizer(@Value("${cclh.jpa.batch-size:50}") int batchSize) {
+        return hibernateProperties -> {
+            hibernateProperties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            hibernateProperties.putIfAbsent("hibernate.order_inserts", true);
+            hibernateProperties.putIfAbsent("hibernate.order_updates", true);
+            hibernateProperties.putIfAbsent("hibernate.jdbc.batch_versioned_data", true);
+        };
+    }
+
+}
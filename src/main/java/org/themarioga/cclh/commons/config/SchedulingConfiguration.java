@@ -0,0 +1,59 @@
+package org.themarioga.cclh.commons.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.themarioga.cclh.commons.services.intf.ConfigurationService;
+import org.themarioga.cclh.commons.services.intf.MetricsService;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodic refreshes of the library on a thread of its own. Scheduling is not enabled for the whole application,
+ * so the scheduled beans of the bot keep whatever setup the bot gives them.
+ */
+@Configuration
+@ConditionalOnProperty(name = "cclh.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfiguration implements DisposableBean {
+
+    private final Logger logger = LoggerFactory.getLogger(SchedulingConfiguration.class);
+
+    private final ScheduledExecutorService scheduler;
+
+    @Autowired
+    public SchedulingConfiguration(ConfigurationService configurationService, MetricsService metricsService,
+                                   @Value("${cclh.configuration.refresh-delay:60000}") long configurationRefreshDelay,
+                                   @Value("${cclh.metrics.refresh-delay:30000}") long metricsRefreshDelay) {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cclh-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        schedule("configuration refresh", configurationService::refreshIfChanged, configurationRefreshDelay);
+        schedule("status gauges refresh", metricsService::refreshStatusGauges, metricsRefreshDelay);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    private void schedule(String name, Runnable task, long delay) {
+        // A failed run is logged and the next one still happens
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.error("Error running the {}", name, e);
+            }
+        }, delay, delay, TimeUnit.MILLISECONDS);
+    }
+
+}
@@ -0,0 +1,71 @@
+package org.themarioga.cclh.commons.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.themarioga.cclh.commons.enums.ErrorEnum;
+import org.themarioga.cclh.commons.exceptions.ApplicationException;
+
+/**
+ * Times every public method of the game services and counts their errors by {@link ErrorEnum}.
+ * It runs outside of the transaction, so the time includes the commit.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMetricsAspect {
+
+    public static final String TIMER_NAME = "cclh.service.calls";
+    public static final String ERROR_COUNTER_NAME = "cclh.service.errors";
+
+    private static final String NO_ERROR = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * org.themarioga.cclh.commons.services.impl.GameServiceImpl.*(..))"
+            + " || execution(public * org.themarioga.cclh.commons.services.impl.TableServiceImpl.*(..))"
+            + " || execution(public * org.themarioga.cclh.commons.services.impl.PlayerServiceImpl.*(..))"
+            + " || execution(public * org.themarioga.cclh.commons.services.impl.CardServiceImpl.*(..))"
+            + " || execution(public * org.themarioga.cclh.commons.services.impl.DictionaryServiceImpl.*(..))")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        Tags operationTags = Tags.of(
+                Tag.of("service", joinPoint.getSignature().getDeclaringType().getSimpleName().replace("Impl", "")),
+                Tag.of("operation", joinPoint.getSignature().getName()));
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Object result = joinPoint.proceed();
+
+            sample.stop(meterRegistry.timer(TIMER_NAME, operationTags.and("outcome", "success", "error", NO_ERROR, "error.code", NO_ERROR)));
+
+            return result;
+        } catch (Throwable throwable) {
+            Tags errorTags = operationTags.and(getErrorTags(throwable));
+
+            sample.stop(meterRegistry.timer(TIMER_NAME, errorTags.and("outcome", "error")));
+            meterRegistry.counter(ERROR_COUNTER_NAME, errorTags).increment();
+
+            throw throwable;
+        }
+    }
+
+    private static Tags getErrorTags(Throwable throwable) {
+        // Error enums keep the tag values bounded, other exceptions are tagged by their type
+        if (throwable instanceof ApplicationException applicationException && applicationException.getErrorEnum() != null) {
+            ErrorEnum errorEnum = applicationException.getErrorEnum();
+            return Tags.of("error", errorEnum.name(), "error.code", String.valueOf(errorEnum.getErrorCode()));
+        }
+
+        return Tags.of("error", throwable.getClass().getSimpleName(), "error.code", NO_ERROR);
+    }
+
+}
@@ -1,13 +1,22 @@
 package org.themarioga.cclh.commons.dao;
 
 import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.util.Assert;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public abstract class AbstractHibernateDao<T extends Serializable> implements InterfaceHibernateDao<T> {
 
@@ -20,6 +29,10 @@ public abstract class AbstractHibernateDao<T extends Serializable> implements In
         clazz = Objects.requireNonNull(clazzToSet);
     }
 
+    protected final Class<T> getClazz() {
+        return clazz;
+    }
+
     // API
     @Override
     public T create(final T entity) {
@@ -31,7 +44,12 @@ public abstract class AbstractHibernateDao<T extends Serializable> implements In
     @Override
     public T update(final T entity) {
         Assert.notNull(entity, "No puede ser null");
-        return getCurrentSession().merge(entity);
+
+        // Managed entities are written by dirty checking, merging them would only walk the cascade graph again
+        Session session = getCurrentSession();
+        if (session.contains(entity)) return entity;
+
+        return session.merge(entity);
     }
 
     @Override
@@ -58,7 +76,60 @@ public abstract class AbstractHibernateDao<T extends Serializable> implements In
 
     @Override
     public Long countAll() {
-        return getCurrentSession().createQuery("from " + clazz.getName(), clazz).stream().count();
+        return getCurrentSession().createQuery("select count(e) from " + clazz.getName() + " e", Long.class).getSingleResult();
+    }
+
+    @Override
+    public Stream<T> streamAll(int fetchSize) {
+        Session session = getCurrentSession();
+        ScrollableResults<T> results = session.createQuery("from " + clazz.getName(), clazz)
+                .setFetchSize(fetchSize)
+                .setCacheMode(CacheMode.IGNORE)
+                .scroll(ScrollMode.FORWARD_ONLY);
+
+        // Consumed entities leave the session a fetch at a time, so the persistence context does not grow with the rows
+        List<T> consumed = new ArrayList<>(fetchSize);
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (!results.next()) {
+                    flushAndDetach(consumed);
+                    consumed.clear();
+                    return false;
+                }
+
+                T entity = results.get();
+                action.accept(entity);
+                consumed.add(entity);
+                if (consumed.size() >= fetchSize) {
+                    flushAndDetach(consumed);
+                    consumed.clear();
+                }
+
+                return true;
+            }
+        };
+
+        return StreamSupport.stream(spliterator, false).onClose(results::close);
+    }
+
+    @Override
+    public void flush(int jdbcBatchSize) {
+        Session session = getCurrentSession();
+        Integer sessionJdbcBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(jdbcBatchSize);
+        try {
+            session.flush();
+        } finally {
+            session.setJdbcBatchSize(sessionJdbcBatchSize);
+        }
+    }
+
+    protected void flushAndDetach(List<T> entities) {
+        // Changes the caller made to them are written before the session stops tracking them
+        Session session = getCurrentSession();
+        session.flush();
+        entities.forEach(session::detach);
     }
 
     @Override
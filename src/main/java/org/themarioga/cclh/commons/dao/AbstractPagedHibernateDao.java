@@ -0,0 +1,38 @@
+package org.themarioga.cclh.commons.dao;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.Consumer;
+
+public abstract class AbstractPagedHibernateDao<T extends Serializable> extends AbstractHibernateDao<T> implements InterfacePagedHibernateDao<T> {
+
+    @Override
+    public List<T> findPageAfter(Long lastId, int pageSize) {
+        // Keyset paging on the id, every page is an index range scan however deep it is
+        if (lastId == null) {
+            return getCurrentSession().createQuery("from " + getClazz().getName() + " e order by e.id", getClazz()).setMaxResults(pageSize).list();
+        }
+
+        return getCurrentSession().createQuery("from " + getClazz().getName() + " e where e.id > :lastId order by e.id", getClazz())
+                .setParameter("lastId", lastId)
+                .setMaxResults(pageSize)
+                .list();
+    }
+
+    @Override
+    public void forEachPage(int pageSize, Consumer<List<T>> action) {
+        Long lastId = null;
+        int pageCount;
+        do {
+            List<T> page = findPageAfter(lastId, pageSize);
+            pageCount = page.size();
+            if (pageCount == 0) return;
+
+            action.accept(page);
+
+            lastId = (Long) getCurrentSession().getIdentifier(page.get(pageCount - 1));
+            flushAndDetach(page);
+        } while (pageCount == pageSize);
+    }
+
+}
@@ -5,6 +5,7 @@ import org.hibernate.Session;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface InterfaceHibernateDao<T extends Serializable> {
     // API
@@ -22,6 +23,14 @@ public interface InterfaceHibernateDao<T extends Serializable> {
 
     Long countAll();
 
+    /**
+     * Forward only scroll over every entity, to be consumed and closed inside the transaction that opened it.
+     * Changes made to the entities are flushed before they are detached
+     */
+    Stream<T> streamAll(int fetchSize);
+
+    void flush(int jdbcBatchSize);
+
     EntityManager getEntityManager();
 
     Session getCurrentSession();
@@ -0,0 +1,22 @@
+package org.themarioga.cclh.commons.dao;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Keyset paging for entities with a single Long id named id
+ */
+public interface InterfacePagedHibernateDao<T extends Serializable> extends InterfaceHibernateDao<T> {
+
+    /**
+     * Next page ordered by id
+     */
+    List<T> findPageAfter(Long lastId, int pageSize);
+
+    /**
+     * Every page in id order, changes made to its entities are flushed before they are detached
+     */
+    void forEachPage(int pageSize, Consumer<List<T>> action);
+
+}
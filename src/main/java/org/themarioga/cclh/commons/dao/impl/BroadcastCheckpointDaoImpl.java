@@ -0,0 +1,20 @@
+package org.themarioga.cclh.commons.dao.impl;
+
+import org.springframework.stereotype.Repository;
+import org.themarioga.cclh.commons.dao.AbstractHibernateDao;
+import org.themarioga.cclh.commons.dao.intf.BroadcastCheckpointDao;
+import org.themarioga.cclh.commons.models.BroadcastCheckpoint;
+
+@Repository
+public class BroadcastCheckpointDaoImpl extends AbstractHibernateDao<BroadcastCheckpoint> implements BroadcastCheckpointDao {
+
+    public BroadcastCheckpointDaoImpl() {
+        setClazz(BroadcastCheckpoint.class);
+    }
+
+    @Override
+    public BroadcastCheckpoint findById(String id) {
+        return getCurrentSession().get(BroadcastCheckpoint.class, id);
+    }
+
+}
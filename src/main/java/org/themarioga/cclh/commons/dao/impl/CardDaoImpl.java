@@ -6,6 +6,7 @@ import org.themarioga.cclh.commons.dao.intf.CardDao;
 import org.themarioga.cclh.commons.enums.CardTypeEnum;
 import org.themarioga.cclh.commons.models.*;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -17,7 +18,7 @@ public class CardDaoImpl extends AbstractHibernateDao<Card> implements CardDao {
 
     @Override
     public boolean checkCardExistsByDictionaryTypeAndText(Dictionary dictionary, CardTypeEnum cardTypeEnum, String text) {
-        return getCurrentSession().createQuery("SELECT count(c) FROM Card c WHERE c.dictionary=:dictionary and c.type=:type and c.text LIKE :text", Long.class).setParameter("dictionary", dictionary).setParameter("type", cardTypeEnum).setParameter("text", text).getSingleResultOrNull() > 0;
+        return getCurrentSession().createQuery("SELECT count(c) FROM Card c WHERE c.dictionary=:dictionary and c.type=:type and c.text=:text", Long.class).setParameter("dictionary", dictionary).setParameter("type", cardTypeEnum).setParameter("text", text).getSingleResultOrNull() > 0;
     }
 
     @Override
@@ -25,9 +26,22 @@ public class CardDaoImpl extends AbstractHibernateDao<Card> implements CardDao {
         return getCurrentSession().createQuery("SELECT c FROM Card c where c.dictionary=:dictionary and c.type=:type", Card.class).setParameter("dictionary", dictionary).setParameter("type", cardTypeEnum).getResultList();
     }
 
+    @Override
+    public boolean checkAnyCardExistsByDictionaryTypeAndTexts(Dictionary dictionary, CardTypeEnum cardTypeEnum, Collection<String> texts) {
+        return getCurrentSession().createQuery("SELECT count(c) FROM Card c WHERE c.dictionary=:dictionary and c.type=:type and c.text IN :texts", Long.class).setParameter("dictionary", dictionary).setParameter("type", cardTypeEnum).setParameterList("texts", texts).getSingleResultOrNull() > 0;
+    }
+
     @Override
     public int countCardsByDictionaryIdAndType(Dictionary dictionary, CardTypeEnum cardTypeEnum) {
         return getCurrentSession().createQuery("SELECT count(c) FROM Card c where c.dictionary=:dictionary and c.type=:type", Long.class).setParameter("dictionary", dictionary).setParameter("type", cardTypeEnum).getSingleResultOrNull().intValue();
     }
 
+    @Override
+    public long nextCardRevision(Dictionary dictionary) {
+        // The row lock orders card creations of the dictionary, so a committed revision has every lower one committed
+        getCurrentSession().createNativeQuery("UPDATE t_dictionary SET card_revision = card_revision + 1 WHERE id=:id").addSynchronizedEntityClass(Dictionary.class).setParameter("id", dictionary.getId()).executeUpdate();
+
+        return getCurrentSession().createQuery("SELECT d.cardRevision FROM Dictionary d WHERE d=:dictionary", Long.class).setParameter("dictionary", dictionary).getSingleResult();
+    }
+
 }
@@ -6,6 +6,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 import org.themarioga.cclh.commons.dao.intf.ConfigurationDao;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Repository
 public class ConfigurationDaoImpl implements ConfigurationDao {
 
@@ -21,6 +25,18 @@ public class ConfigurationDaoImpl implements ConfigurationDao {
         return getCurrentSession().createNativeQuery("SELECT conf_value FROM t_configuration where conf_key = ?", String.class).setParameter(1, key).getSingleResultOrNull();
     }
 
+    @Override
+    public Map<String, String> getConfigurations() {
+        List<Object[]> rows = getCurrentSession().createNativeQuery("SELECT conf_key, conf_value FROM t_configuration", Object[].class).getResultList();
+
+        Map<String, String> configurations = new HashMap<>(rows.size());
+        for (Object[] row : rows) {
+            configurations.put((String) row[0], (String) row[1]);
+        }
+
+        return configurations;
+    }
+
     public Session getCurrentSession() {
         return entityManager.unwrap(Session.class);
     }
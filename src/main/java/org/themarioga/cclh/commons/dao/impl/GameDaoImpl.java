@@ -1,23 +1,71 @@
 package org.themarioga.cclh.commons.dao.impl;
 
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
 import org.themarioga.cclh.commons.dao.AbstractHibernateDao;
 import org.themarioga.cclh.commons.dao.intf.GameDao;
 import org.themarioga.cclh.commons.enums.CardTypeEnum;
+import org.themarioga.cclh.commons.enums.GameStatusEnum;
 import org.themarioga.cclh.commons.models.*;
+import org.themarioga.cclh.commons.util.GameDeck;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Repository
 public class GameDaoImpl extends AbstractHibernateDao<Game> implements GameDao {
 
+    private static final int DECK_CACHE_SIZE = 1024;
+
+    // Card ids of a deck by dictionary, type and card revision. A revision never gains cards, so they are shared by
+    // every game started on it and only read once
+    private final Map<DeckKey, long[]> deckCardIds = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<DeckKey, long[]> eldest) {
+            return size() > DECK_CACHE_SIZE;
+        }
+    });
+
     public GameDaoImpl() {
         setClazz(Game.class);
     }
 
     @Override
-    public void transferCardsToGameDeck(Game game) {
-        getCurrentSession().createQuery("INSERT INTO GameDeckCard(game, card) SELECT :game AS game, c FROM Card c WHERE dictionary=:dictionary").setParameter("game", game).setParameter("dictionary", game.getDictionary()).executeUpdate();
+    public void delete(Game game) {
+        Assert.notNull(game, "No puede ser null");
+
+        // Write pending changes before the rows go away
+        Session session = getCurrentSession();
+        session.flush();
+
+        // One statement per table in foreign key order, whatever the size of the game
+        session.createMutationQuery("DELETE FROM PlayerHandCard h WHERE h.player.id IN (SELECT p.id FROM Player p WHERE p.game=:game)").setParameter("game", game).executeUpdate();
+        session.createMutationQuery("DELETE FROM VotedCard v WHERE v.table.game=:game").setParameter("game", game).executeUpdate();
+        session.createMutationQuery("DELETE FROM PlayedCard p WHERE p.table.game=:game").setParameter("game", game).executeUpdate();
+        session.createNativeQuery("DELETE FROM t_game_deletionvotes WHERE game_id=:gameId").addSynchronizedQuerySpace("t_game_deletionvotes").setParameter("gameId", game.getId()).executeUpdate();
+        session.createMutationQuery("DELETE FROM Table t WHERE t.game=:game").setParameter("game", game).executeUpdate();
+        session.createMutationQuery("DELETE FROM Player p WHERE p.game=:game").setParameter("game", game).executeUpdate();
+        // Hibernate also clears the deletion votes here, but too late for the player foreign key
+        session.createMutationQuery("DELETE FROM Game g WHERE g.id=:id").setParameter("id", game.getId()).executeUpdate();
+
+        // The loaded graph no longer has rows behind it
+        if (session.contains(game)) session.detach(game);
+    }
+
+    @Override
+    public Long getDictionaryCardRevision(Dictionary dictionary) {
+        return getCurrentSession().createQuery("SELECT d.cardRevision FROM Dictionary d WHERE d=:dictionary", Long.class).setParameter("dictionary", dictionary).getSingleResultOrNull();
     }
 
     @Override
@@ -31,8 +79,48 @@ public class GameDaoImpl extends AbstractHibernateDao<Game> implements GameDao {
     }
 
     @Override
-    public List<GameDeckCard> getGameDeckCards(Game game, int cardNumber, CardTypeEnum cardTypeEnum) {
-        return getCurrentSession().createQuery("SELECT g FROM GameDeckCard g INNER JOIN Card c on g.card = c WHERE g.game=:game and c.type=:type ORDER BY RAND()", GameDeckCard.class).setParameter("game", game).setParameter("type", cardTypeEnum).setMaxResults(cardNumber).getResultList();
+    public Game loadForRound(Game game) {
+        // Game, table and players with their users
+        if (!Hibernate.isInitialized(game.getPlayers())) {
+            game = getCurrentSession().createQuery("SELECT g FROM Game g LEFT JOIN FETCH g.table LEFT JOIN FETCH g.players p LEFT JOIN FETCH p.user WHERE g.id=:id", Game.class).setParameter("id", game.getId()).getSingleResult();
+        }
+
+        // Hands of every player, in a second query as two bags cannot be fetched together
+        if (game.getPlayers().stream().anyMatch(player -> !Hibernate.isInitialized(player.getHand()))) {
+            getCurrentSession().createQuery("SELECT p FROM Player p LEFT JOIN FETCH p.hand h LEFT JOIN FETCH h.card WHERE p.game=:game", Player.class).setParameter("game", game).getResultList();
+        }
+
+        return game;
+    }
+
+    @Override
+    public Game loadForVoting(Game game) {
+        // Game, table and played cards
+        if (!Hibernate.isInitialized(game.getTable()) || game.getTable() == null || !Hibernate.isInitialized(game.getTable().getPlayedCards())) {
+            game = getCurrentSession().createQuery("SELECT g FROM Game g LEFT JOIN FETCH g.table t LEFT JOIN FETCH t.currentBlackCard LEFT JOIN FETCH t.playedCards pc LEFT JOIN FETCH pc.player LEFT JOIN FETCH pc.card WHERE g.id=:id", Game.class).setParameter("id", game.getId()).getSingleResult();
+        }
+
+        // Voted cards, in a second query as two bags cannot be fetched together
+        if (game.getTable() != null && !Hibernate.isInitialized(game.getTable().getVotedCards())) {
+            getCurrentSession().createQuery("SELECT t FROM Table t LEFT JOIN FETCH t.votedCards WHERE t.game=:game", Table.class).setParameter("game", game).getResultList();
+        }
+
+        return game;
+    }
+
+    @Override
+    public List<Card> getGameDeckCards(Game game, int cardNumber, CardTypeEnum cardTypeEnum, Set<Long> cardIdsInPlay) {
+        // Shuffle the deck and draw from its cursor
+        GameDeck gameDeck = new GameDeck(game.getDeckSeed(), getDeckCardIds(game, cardTypeEnum), game.getDeckCursor(cardTypeEnum));
+
+        // Cards deleted after the ids were read are skipped
+        List<Card> cards = new ArrayList<>(cardNumber);
+        while (cards.size() < cardNumber && gameDeck.remaining() > 0) {
+            List<Long> drawnCardIds = Arrays.stream(gameDeck.draw(cardNumber - cards.size(), cardIdsInPlay)).boxed().toList();
+            getCurrentSession().byMultipleIds(Card.class).multiLoad(drawnCardIds).stream().filter(Objects::nonNull).forEach(cards::add);
+        }
+
+        return cards;
     }
 
     @Override
@@ -45,4 +133,39 @@ public class GameDaoImpl extends AbstractHibernateDao<Game> implements GameDao {
         return getCurrentSession().createQuery("SELECT count(t) FROM Game t where t.creator=:creator", Long.class).setParameter("creator", creator).getSingleResultOrNull();
     }
 
+    @Override
+    public Map<GameStatusEnum, Long> countByStatus() {
+        Map<GameStatusEnum, Long> countByStatus = new EnumMap<>(GameStatusEnum.class);
+        for (Object[] row : getCurrentSession().createQuery("SELECT t.status, count(t) FROM Game t GROUP BY t.status", Object[].class).list()) {
+            countByStatus.put((GameStatusEnum) row[0], (Long) row[1]);
+        }
+
+        return countByStatus;
+    }
+
+    private long[] getDeckCardIds(Game game, CardTypeEnum cardTypeEnum) {
+        DeckKey deckKey = new DeckKey(game.getDictionary().getId(), cardTypeEnum, game.getDeckCardRevision());
+        long[] cardIds = deckCardIds.get(deckKey);
+        if (cardIds != null) return cardIds;
+
+        // The deck is the dictionary as it was when the game started
+        cardIds = getCurrentSession().createQuery("SELECT c.id FROM Card c WHERE c.dictionary=:dictionary and c.type=:type and c.revision<=:revision", Long.class).setParameter("dictionary", game.getDictionary()).setParameter("type", cardTypeEnum).setParameter("revision", game.getDeckCardRevision()).getResultStream().mapToLong(Long::longValue).toArray();
+        deckCardIds.put(deckKey, cardIds);
+
+        // A revision written by this transaction is handed out again if it rolls back
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) deckCardIds.remove(deckKey);
+                }
+            });
+        }
+
+        return cardIds;
+    }
+
+    private record DeckKey(Long dictionaryId, CardTypeEnum type, Long revision) {
+    }
+
 }
@@ -21,17 +21,17 @@ public class LanguageDaoImpl implements LanguageDao {
 
     @Override
     public Lang getLanguage(String id) {
-        return getCurrentSession().createQuery("SELECT l FROM Lang l where l.id = :id", Lang.class).setParameter("id", id).getSingleResultOrNull();
+        return getCurrentSession().createQuery("SELECT l FROM Lang l where l.id = :id", Lang.class).setParameter("id", id).setCacheable(true).getSingleResultOrNull();
     }
 
     @Override
     public boolean checkLanguageExists(String id) {
-        return getCurrentSession().createQuery("SELECT count(l) FROM Lang l where l.id = :id", Long.class).setParameter("id", id).getSingleResultOrNull() > 0;
+        return getCurrentSession().createQuery("SELECT count(l) FROM Lang l where l.id = :id", Long.class).setParameter("id", id).setCacheable(true).getSingleResultOrNull() > 0;
     }
 
     @Override
     public List<Lang> getLanguages() {
-        return getCurrentSession().createQuery("SELECT l FROM Lang l", Lang.class).getResultList();
+        return getCurrentSession().createQuery("SELECT l FROM Lang l", Lang.class).setCacheable(true).getResultList();
     }
 
     public Session getCurrentSession() {
@@ -5,6 +5,8 @@ import org.themarioga.cclh.commons.dao.AbstractHibernateDao;
 import org.themarioga.cclh.commons.dao.intf.PlayerDao;
 import org.themarioga.cclh.commons.models.*;
 
+import java.util.List;
+
 @Repository
 public class PlayerDaoImpl extends AbstractHibernateDao<Player> implements PlayerDao {
 
@@ -17,6 +19,13 @@ public class PlayerDaoImpl extends AbstractHibernateDao<Player> implements Playe
         return getCurrentSession().createQuery("SELECT t FROM Player t where user=:user", Player.class).setParameter("user", user).getSingleResultOrNull();
     }
 
+    @Override
+    public void createHandCards(List<PlayerHandCard> playerHandCards) {
+        for (PlayerHandCard playerHandCard : playerHandCards) {
+            getCurrentSession().persist(playerHandCard);
+        }
+    }
+
     @Override
     public PlayedCard findCardByPlayer(Long playerId) {
         return getCurrentSession().createQuery("SELECT t FROM PlayedCard t where player.id=:player_id", PlayedCard.class).setParameter("player_id", playerId).getSingleResultOrNull();
@@ -1,15 +1,26 @@
 package org.themarioga.cclh.commons.dao.impl;
 
 import org.springframework.stereotype.Repository;
-import org.themarioga.cclh.commons.dao.AbstractHibernateDao;
+import org.themarioga.cclh.commons.dao.AbstractPagedHibernateDao;
 import org.themarioga.cclh.commons.dao.intf.RoomDao;
 import org.themarioga.cclh.commons.models.Room;
 
+import java.util.List;
+
 @Repository
-public class RoomDaoImpl extends AbstractHibernateDao<Room> implements RoomDao {
+public class RoomDaoImpl extends AbstractPagedHibernateDao<Room> implements RoomDao {
 
     public RoomDaoImpl() {
         setClazz(Room.class);
     }
 
+    @Override
+    public List<Long> findActiveIdsAfter(Long lastId, int pageSize) {
+        // Keyset page of ids, nothing enters the persistence context
+        return getCurrentSession().createQuery("SELECT r.id FROM Room r WHERE r.active = true AND r.id > :lastId ORDER BY r.id", Long.class)
+                .setParameter("lastId", lastId != null ? lastId : Long.MIN_VALUE)
+                .setMaxResults(pageSize)
+                .list();
+    }
+
 }
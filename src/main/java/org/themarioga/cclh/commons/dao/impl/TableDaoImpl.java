@@ -1,9 +1,16 @@
 package org.themarioga.cclh.commons.dao.impl;
 
+import org.hibernate.Hibernate;
+import org.hibernate.LockMode;
+import org.hibernate.Session;
 import org.springframework.stereotype.Repository;
 import org.themarioga.cclh.commons.dao.AbstractHibernateDao;
 import org.themarioga.cclh.commons.dao.intf.TableDao;
-import org.themarioga.cclh.commons.models.*;
+import org.themarioga.cclh.commons.enums.TableStatusEnum;
+import org.themarioga.cclh.commons.models.Table;
+
+import java.util.EnumMap;
+import java.util.Map;
 
 @Repository
 public class TableDaoImpl extends AbstractHibernateDao<Table> implements TableDao {
@@ -13,18 +20,40 @@ public class TableDaoImpl extends AbstractHibernateDao<Table> implements TableDa
     }
 
     @Override
-    public PlayedCard getMostVotedCard(long gameId) {
-        return getCurrentSession().createNativeQuery("SELECT * FROM t_table_playedcards WHERE game_id=:game_id and CARD_ID = (SELECT CARD_ID FROM (SELECT CARD_ID, count(card_id) as value_ocurrence FROM t_table_playervotes WHERE game_id=:game_id GROUP BY card_id ORDER BY value_ocurrence DESC LIMIT 1) as CIvo)", PlayedCard.class).setParameter("game_id", gameId).setMaxResults(1).getSingleResultOrNull();
+    public Table deleteRoundCards(Table table) {
+        // Write pending changes of the table before it is detached
+        Session session = getCurrentSession();
+        session.flush();
+
+        // Votes reference the played cards, so they go first
+        session.createMutationQuery("DELETE FROM VotedCard v WHERE v.table=:table").setParameter("table", table).executeUpdate();
+        session.createMutationQuery("DELETE FROM PlayedCard p WHERE p.table=:table").setParameter("table", table).executeUpdate();
+
+        // Lazy collections that were never loaded will read the empty round from the database
+        if (!Hibernate.isInitialized(table.getPlayedCards()) && !Hibernate.isInitialized(table.getVotedCards())) return table;
+
+        // Otherwise forget the deleted cards and the collections that held them, the table comes back with empty lazy collections
+        session.detach(table);
+
+        return session.get(Table.class, table.getGame().getId());
     }
 
     @Override
-    public long countPlayedCards(Game game) {
-        return getCurrentSession().createQuery("SELECT count(p) FROM PlayedCard p WHERE p.table=:table", Long.class).setParameter("table", game.getTable()).getSingleResultOrNull();
+    public Table incrementVersion(Table table) {
+        // Played and voted cards are owned by the card side, so adding them does not touch the table version on its own
+        getCurrentSession().lock(table, LockMode.OPTIMISTIC_FORCE_INCREMENT);
+
+        return table;
     }
 
     @Override
-    public long countVotedCards(Game game) {
-        return getCurrentSession().createQuery("SELECT count(v) FROM VotedCard v WHERE v.table=:table", Long.class).setParameter("table", game.getTable()).getSingleResultOrNull();
+    public Map<TableStatusEnum, Long> countByStatus() {
+        Map<TableStatusEnum, Long> countByStatus = new EnumMap<>(TableStatusEnum.class);
+        for (Object[] row : getCurrentSession().createQuery("SELECT t.status, count(t) FROM Table t GROUP BY t.status", Object[].class).list()) {
+            countByStatus.put((TableStatusEnum) row[0], (Long) row[1]);
+        }
+
+        return countByStatus;
     }
 
 }
@@ -8,6 +8,7 @@ import org.themarioga.cclh.commons.dao.intf.TagDao;
 import org.themarioga.cclh.commons.models.Lang;
 import org.themarioga.cclh.commons.models.Tag;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -26,6 +27,18 @@ public class TagDaoImpl implements TagDao {
 		return getCurrentSession().createQuery("SELECT t FROM Tag t WHERE t.lang=:lang", Tag.class).setParameter("lang", lang).getResultList();
 	}
 
+	@Override
+	public Map<String, String> getTagTextsByLang(Lang lang) {
+		List<Object[]> rows = getCurrentSession().createQuery("SELECT t.tag, t.text FROM Tag t WHERE t.lang=:lang", Object[].class).setParameter("lang", lang).setCacheable(true).getResultList();
+
+		Map<String, String> texts = new HashMap<>();
+		for (Object[] row : rows) {
+			texts.put((String) row[0], (String) row[1]);
+		}
+
+		return texts;
+	}
+
 	public Session getCurrentSession() {
 		return entityManager.unwrap(Session.class);
 	}
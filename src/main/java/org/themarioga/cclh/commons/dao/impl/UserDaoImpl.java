@@ -1,12 +1,15 @@
 package org.themarioga.cclh.commons.dao.impl;
 
 import org.springframework.stereotype.Repository;
-import org.themarioga.cclh.commons.dao.AbstractHibernateDao;
+import org.themarioga.cclh.commons.dao.AbstractPagedHibernateDao;
 import org.themarioga.cclh.commons.dao.intf.UserDao;
 import org.themarioga.cclh.commons.models.User;
+import org.themarioga.cclh.commons.util.UsernameNormalizer;
+
+import java.util.List;
 
 @Repository
-public class UserDaoImpl extends AbstractHibernateDao<User> implements UserDao {
+public class UserDaoImpl extends AbstractPagedHibernateDao<User> implements UserDao {
 
     public UserDaoImpl() {
         setClazz(User.class);
@@ -14,7 +17,32 @@ public class UserDaoImpl extends AbstractHibernateDao<User> implements UserDao {
 
     @Override
     public User getByUsername(String username) {
-        return getCurrentSession().createQuery("SELECT u FROM User u WHERE u.name LIKE :username", User.class).setParameter("username", "%" + username + "%").getSingleResultOrNull();
+        // Exact match on the index. Names are display names that several users may share, active and newer users first
+        return getCurrentSession().createQuery("SELECT u FROM User u WHERE u.username = :username ORDER BY u.active DESC, u.id DESC", User.class)
+                .setParameter("username", UsernameNormalizer.normalize(username))
+                .setMaxResults(1)
+                .getSingleResultOrNull();
+    }
+
+    @Override
+    public List<User> findByUsernamePrefix(String prefix, int maxResults) {
+        String username = UsernameNormalizer.normalize(prefix);
+        if (username == null) return List.of();
+
+        // Without a leading wildcard the LIKE is a range scan of the username index
+        return getCurrentSession().createQuery("SELECT u FROM User u WHERE u.active = true AND u.username LIKE :prefix ESCAPE '!' ORDER BY u.username", User.class)
+                .setParameter("prefix", UsernameNormalizer.escapeLike(username) + "%")
+                .setMaxResults(maxResults)
+                .list();
+    }
+
+    @Override
+    public List<Long> findActiveIdsAfter(Long lastId, int pageSize) {
+        // Keyset page of ids, nothing enters the persistence context
+        return getCurrentSession().createQuery("SELECT u.id FROM User u WHERE u.active = true AND u.id > :lastId ORDER BY u.id", Long.class)
+                .setParameter("lastId", lastId != null ? lastId : Long.MIN_VALUE)
+                .setMaxResults(pageSize)
+                .list();
     }
 
 }
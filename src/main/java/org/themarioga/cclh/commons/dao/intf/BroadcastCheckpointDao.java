@@ -0,0 +1,10 @@
+package org.themarioga.cclh.commons.dao.intf;
+
+import org.themarioga.cclh.commons.dao.InterfaceHibernateDao;
+import org.themarioga.cclh.commons.models.BroadcastCheckpoint;
+
+public interface BroadcastCheckpointDao extends InterfaceHibernateDao<BroadcastCheckpoint> {
+
+    BroadcastCheckpoint findById(String id);
+
+}
@@ -4,14 +4,19 @@ import org.themarioga.cclh.commons.dao.InterfaceHibernateDao;
 import org.themarioga.cclh.commons.enums.CardTypeEnum;
 import org.themarioga.cclh.commons.models.*;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CardDao extends InterfaceHibernateDao<Card> {
 
     boolean checkCardExistsByDictionaryTypeAndText(Dictionary dictionary, CardTypeEnum cardTypeEnum, String text);
 
+    boolean checkAnyCardExistsByDictionaryTypeAndTexts(Dictionary dictionary, CardTypeEnum cardTypeEnum, Collection<String> texts);
+
     List<Card> findCardsByDictionaryIdAndType(Dictionary dictionary, CardTypeEnum cardTypeEnum);
 
     int countCardsByDictionaryIdAndType(Dictionary dictionary, CardTypeEnum cardTypeEnum);
 
+    long nextCardRevision(Dictionary dictionary);
+
 }
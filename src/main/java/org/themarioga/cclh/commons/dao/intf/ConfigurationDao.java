@@ -1,7 +1,11 @@
 package org.themarioga.cclh.commons.dao.intf;
 
+import java.util.Map;
+
 public interface ConfigurationDao {
 
     String getConfiguration(String key);
 
+    Map<String, String> getConfigurations();
+
 }
@@ -2,21 +2,30 @@ package org.themarioga.cclh.commons.dao.intf;
 
 import org.themarioga.cclh.commons.dao.InterfaceHibernateDao;
 import org.themarioga.cclh.commons.enums.CardTypeEnum;
+import org.themarioga.cclh.commons.enums.GameStatusEnum;
 import org.themarioga.cclh.commons.models.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface GameDao extends InterfaceHibernateDao<Game> {
 
-    void transferCardsToGameDeck(Game game);
+    Long getDictionaryCardRevision(Dictionary dictionary);
 
     Game getByRoom(Room room);
 
     Game getByCreator(User creator);
 
-    List<GameDeckCard> getGameDeckCards(Game game, int cardNumber, CardTypeEnum cardTypeEnum);
+    Game loadForRound(Game game);
+
+    Game loadForVoting(Game game);
+
+    List<Card> getGameDeckCards(Game game, int cardNumber, CardTypeEnum cardTypeEnum, Set<Long> cardIdsInPlay);
 
     Long countByRoom(Room room);
 
     Long countByCreator(User creator);
+
+    Map<GameStatusEnum, Long> countByStatus();
 }
@@ -3,10 +3,14 @@ package org.themarioga.cclh.commons.dao.intf;
 import org.themarioga.cclh.commons.dao.InterfaceHibernateDao;
 import org.themarioga.cclh.commons.models.*;
 
+import java.util.List;
+
 public interface PlayerDao extends InterfaceHibernateDao<Player> {
 
     Player findPlayerByUser(User user);
 
+    void createHandCards(List<PlayerHandCard> playerHandCards);
+
     PlayedCard findCardByPlayer(Long playerId);
 
     VotedCard findVotesByPlayer(Long playerId);
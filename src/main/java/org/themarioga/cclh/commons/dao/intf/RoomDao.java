@@ -1,8 +1,12 @@
 package org.themarioga.cclh.commons.dao.intf;
 
-import org.themarioga.cclh.commons.dao.InterfaceHibernateDao;
+import org.themarioga.cclh.commons.dao.InterfacePagedHibernateDao;
 import org.themarioga.cclh.commons.models.Room;
 
-public interface RoomDao extends InterfaceHibernateDao<Room> {
+import java.util.List;
+
+public interface RoomDao extends InterfacePagedHibernateDao<Room> {
+
+    List<Long> findActiveIdsAfter(Long lastId, int pageSize);
 
 }
@@ -1,16 +1,17 @@
 package org.themarioga.cclh.commons.dao.intf;
 
 import org.themarioga.cclh.commons.dao.InterfaceHibernateDao;
-import org.themarioga.cclh.commons.models.Game;
-import org.themarioga.cclh.commons.models.PlayedCard;
+import org.themarioga.cclh.commons.enums.TableStatusEnum;
 import org.themarioga.cclh.commons.models.Table;
 
+import java.util.Map;
+
 public interface TableDao extends InterfaceHibernateDao<Table> {
 
-    PlayedCard getMostVotedCard(long gameId);
+    Table deleteRoundCards(Table table);
 
-    long countPlayedCards(Game game);
+    Table incrementVersion(Table table);
 
-    long countVotedCards(Game game);
+    Map<TableStatusEnum, Long> countByStatus();
 
 }
@@ -4,9 +4,12 @@ import org.themarioga.cclh.commons.models.Lang;
 import org.themarioga.cclh.commons.models.Tag;
 
 import java.util.List;
+import java.util.Map;
 
 public interface TagDao {
 
     List<Tag> getTagsByLang(Lang lang);
 
+    Map<String, String> getTagTextsByLang(Lang lang);
+
 }
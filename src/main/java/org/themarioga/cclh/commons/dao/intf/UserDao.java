@@ -1,10 +1,16 @@
 package org.themarioga.cclh.commons.dao.intf;
 
-import org.themarioga.cclh.commons.dao.InterfaceHibernateDao;
+import org.themarioga.cclh.commons.dao.InterfacePagedHibernateDao;
 import org.themarioga.cclh.commons.models.User;
 
-public interface UserDao extends InterfaceHibernateDao<User> {
+import java.util.List;
+
+public interface UserDao extends InterfacePagedHibernateDao<User> {
 
     User getByUsername(String username);
 
+    List<User> findByUsernamePrefix(String prefix, int maxResults);
+
+    List<Long> findActiveIdsAfter(Long lastId, int pageSize);
+
 }
@@ -0,0 +1,8 @@
+package org.themarioga.cclh.commons.enums;
+
+public enum BroadcastTargetEnum {
+
+    USERS,
+    ROOMS
+
+}
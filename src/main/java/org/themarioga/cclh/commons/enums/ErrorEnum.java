@@ -39,7 +39,10 @@ public enum ErrorEnum {
     PLAYER_CANNOT_PLAY_CARD(36L, "El jugador no puede jugar esa carta"),
     PLAYER_CANNOT_VOTE_CARD(37L, "El jugador no puede votar"),
     PLAYER_CANNOT_VOTE_DELETION(38L, "El jugador no puede votar"),
-    TABLE_WRONG_STATUS(39L, "Mesa en estado incorrecto");
+    TABLE_WRONG_STATUS(39L, "Mesa en estado incorrecto"),
+    GAME_CONCURRENTLY_MODIFIED(40L, "Juego modificado a la vez por otra acción"),
+    BROADCAST_ID_EMPTY(41L, "Identificador de envío vacío"),
+    CONFIGURATION_INVALID(42L, "Configuración ausente o no válida");
 
     final Long errorCode;
     final String errorDesc;
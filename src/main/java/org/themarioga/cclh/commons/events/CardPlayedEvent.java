@@ -0,0 +1,4 @@
+package org.themarioga.cclh.commons.events;
+
+public record CardPlayedEvent(long gameId, long roomId, int roundNumber, long userId, long cardId) implements GameEvent {
+}
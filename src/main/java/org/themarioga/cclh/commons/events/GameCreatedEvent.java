@@ -0,0 +1,4 @@
+package org.themarioga.cclh.commons.events;
+
+public record GameCreatedEvent(long gameId, long roomId, long creatorId) implements GameEvent {
+}
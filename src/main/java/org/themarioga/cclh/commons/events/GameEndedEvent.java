@@ -0,0 +1,4 @@
+package org.themarioga.cclh.commons.events;
+
+public record GameEndedEvent(long gameId, long roomId) implements GameEvent {
+}
@@ -0,0 +1,13 @@
+package org.themarioga.cclh.commons.events;
+
+/**
+ * Something that happened to a game, published once the transaction that made it has committed.
+ * Events only carry ids and values, never entities.
+ */
+public interface GameEvent {
+
+    long gameId();
+
+    long roomId();
+
+}
@@ -0,0 +1,4 @@
+package org.themarioga.cclh.commons.events;
+
+public record PlayerJoinedEvent(long gameId, long roomId, long playerId, long userId) implements GameEvent {
+}
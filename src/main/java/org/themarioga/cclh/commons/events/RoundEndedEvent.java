@@ -0,0 +1,4 @@
+package org.themarioga.cclh.commons.events;
+
+public record RoundEndedEvent(long gameId, long roomId, int roundNumber) implements GameEvent {
+}
@@ -0,0 +1,4 @@
+package org.themarioga.cclh.commons.events;
+
+public record RoundStartedEvent(long gameId, long roomId, int roundNumber, long blackCardId, Long presidentUserId) implements GameEvent {
+}
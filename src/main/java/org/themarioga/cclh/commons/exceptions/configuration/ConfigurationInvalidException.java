@@ -0,0 +1,12 @@
+package org.themarioga.cclh.commons.exceptions.configuration;
+
+import org.themarioga.cclh.commons.enums.ErrorEnum;
+import org.themarioga.cclh.commons.exceptions.ApplicationException;
+
+public class ConfigurationInvalidException extends ApplicationException {
+
+    public ConfigurationInvalidException() {
+        super(ErrorEnum.CONFIGURATION_INVALID);
+    }
+
+}
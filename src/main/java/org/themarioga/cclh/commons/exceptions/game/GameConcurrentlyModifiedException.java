@@ -0,0 +1,12 @@
+package org.themarioga.cclh.commons.exceptions.game;
+
+import org.themarioga.cclh.commons.enums.ErrorEnum;
+import org.themarioga.cclh.commons.exceptions.ApplicationException;
+
+public class GameConcurrentlyModifiedException extends ApplicationException {
+
+    public GameConcurrentlyModifiedException() {
+        super(ErrorEnum.GAME_CONCURRENTLY_MODIFIED);
+    }
+
+}
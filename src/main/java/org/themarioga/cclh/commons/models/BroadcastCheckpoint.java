@@ -0,0 +1,94 @@
+package org.themarioga.cclh.commons.models;
+
+import jakarta.persistence.*;
+import org.themarioga.cclh.commons.enums.BroadcastTargetEnum;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.Objects;
+
+@Entity
+@jakarta.persistence.Table(name = "t_broadcast_checkpoint")
+public class BroadcastCheckpoint implements Serializable {
+
+    @Id
+    @Column(name = "id", length = 64)
+    private String id;
+    @Column(name = "target", nullable = false)
+    private BroadcastTargetEnum target;
+    @Column(name = "last_id")
+    private Long lastId;
+    @Column(name = "sent", nullable = false)
+    private Long sent;
+    @Column(name = "completed", nullable = false)
+    private Boolean completed;
+    @Column(name = "last_update", nullable = false)
+    private Date lastUpdate;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public BroadcastTargetEnum getTarget() {
+        return target;
+    }
+
+    public void setTarget(BroadcastTargetEnum target) {
+        this.target = target;
+    }
+
+    public Long getLastId() {
+        return lastId;
+    }
+
+    public void setLastId(Long lastId) {
+        this.lastId = lastId;
+    }
+
+    public Long getSent() {
+        return sent;
+    }
+
+    public void setSent(Long sent) {
+        this.sent = sent;
+    }
+
+    public Boolean getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(Boolean completed) {
+        this.completed = completed;
+    }
+
+    public Date getLastUpdate() {
+        return lastUpdate;
+    }
+
+    public void setLastUpdate(Date lastUpdate) {
+        this.lastUpdate = lastUpdate;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (object == null || getClass() != object.getClass()) return false;
+        BroadcastCheckpoint that = (BroadcastCheckpoint) object;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "BroadcastCheckpoint{" + "id='" + id + '\'' + ", target=" + target + ", lastId=" + lastId + ", sent=" + sent + ", completed=" + completed + '}';
+    }
+
+}
@@ -1,21 +1,30 @@
 package org.themarioga.cclh.commons.models;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.themarioga.cclh.commons.enums.CardTypeEnum;
 
 import java.util.Objects;
 
 @Entity
-@jakarta.persistence.Table(name = "t_card")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "card")
+@jakarta.persistence.Table(name = "t_card", uniqueConstraints = {@UniqueConstraint(columnNames = {"text", "type", "dictionary_id"})})
 public class Card extends Base {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "card_id")
+    @TableGenerator(name = "card_id", table = "t_id_generator", pkColumnName = "name", valueColumnName = "next_val", pkColumnValue = "card", allocationSize = 50)
     private Long id;
     @Column(name = "type", length = 1, nullable = false)
     private CardTypeEnum type;
     @Column(name = "text", length = 256, nullable = false)
     private String text;
+    @ColumnDefault("0")
+    @Column(name = "revision", nullable = false)
+    private Long revision = 0L;
 
     @ManyToOne(cascade = CascadeType.PERSIST, fetch = FetchType.LAZY)
     @JoinColumn(name = "dictionary_id", referencedColumnName = "id")
@@ -45,6 +54,14 @@ public class Card extends Base {
         this.text = text;
     }
 
+    public Long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(Long revision) {
+        this.revision = revision;
+    }
+
     public Dictionary getDictionary() {
         return dictionary;
     }
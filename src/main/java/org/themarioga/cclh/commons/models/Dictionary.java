@@ -1,17 +1,23 @@
 package org.themarioga.cclh.commons.models;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "dictionary")
 @jakarta.persistence.Table(name = "t_dictionary")
 public class Dictionary extends Base {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "dictionary_id")
+    @TableGenerator(name = "dictionary_id", table = "t_id_generator", pkColumnName = "name", valueColumnName = "next_val", pkColumnValue = "dictionary", allocationSize = 50)
     private Long id;
     @Column(name = "name", length = 256, nullable = false)
     private String name;
@@ -19,6 +25,10 @@ public class Dictionary extends Base {
     private Boolean shared;
     @Column(name = "published", nullable = false)
     private Boolean published;
+    // Only written by the card creation statement, the entity never overwrites it
+    @ColumnDefault("0")
+    @Column(name = "card_revision", nullable = false, insertable = false, updatable = false)
+    private Long cardRevision;
 
     @ManyToOne(cascade = CascadeType.PERSIST, fetch = FetchType.LAZY)
     @JoinColumn(name = "creator_id", referencedColumnName = "id", nullable = false)
@@ -63,6 +73,10 @@ public class Dictionary extends Base {
         this.published = published;
     }
 
+    public Long getCardRevision() {
+        return cardRevision;
+    }
+
     public User getCreator() {
         return creator;
     }
@@ -1,6 +1,8 @@
 package org.themarioga.cclh.commons.models;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.themarioga.cclh.commons.enums.CardTypeEnum;
 import org.themarioga.cclh.commons.enums.GamePunctuationTypeEnum;
 import org.themarioga.cclh.commons.enums.GameStatusEnum;
 import org.themarioga.cclh.commons.enums.GameTypeEnum;
@@ -14,8 +16,13 @@ import java.util.Objects;
 public class Game extends Base {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "game_id")
+    @TableGenerator(name = "game_id", table = "t_id_generator", pkColumnName = "name", valueColumnName = "next_val", pkColumnValue = "game", allocationSize = 50)
     private Long id;
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
     @Column(name = "status", nullable = false)
     private GameStatusEnum status;
     @Column(name = "type", nullable = false)
@@ -28,6 +35,14 @@ public class Game extends Base {
     private Integer numberOfRounds;
     @Column(name = "n_players", nullable = false)
     private Integer maxNumberOfPlayers;
+    @Column(name = "deck_seed")
+    private Long deckSeed;
+    @Column(name = "deck_card_revision")
+    private Long deckCardRevision;
+    @Column(name = "black_deck_cursor")
+    private Long blackDeckCursor;
+    @Column(name = "white_deck_cursor")
+    private Long whiteDeckCursor;
 
     @ManyToOne(cascade = CascadeType.PERSIST, fetch = FetchType.LAZY)
     @JoinColumn(name = "room_id", referencedColumnName = "id", nullable = false)
@@ -42,9 +57,6 @@ public class Game extends Base {
     @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, mappedBy = "game", orphanRemoval = true)
     private List<Player> players = new ArrayList<>(0);
 
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, mappedBy = "game", orphanRemoval = true)
-    private List<GameDeckCard> deckCards = new ArrayList<>(0);
-
     @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinTable(name = "t_game_deletionvotes", joinColumns = @JoinColumn(name = "game_id", nullable = false), inverseJoinColumns = @JoinColumn(name = "player_id", nullable = false))
     private List<Player> deletionVotes = new ArrayList<>(0);
@@ -60,6 +72,14 @@ public class Game extends Base {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public GameTypeEnum getType() {
         return type;
     }
@@ -108,6 +128,50 @@ public class Game extends Base {
         this.status = currentStatus;
     }
 
+    public Long getDeckSeed() {
+        return deckSeed;
+    }
+
+    public void setDeckSeed(Long deckSeed) {
+        this.deckSeed = deckSeed;
+    }
+
+    public Long getDeckCardRevision() {
+        return deckCardRevision;
+    }
+
+    public void setDeckCardRevision(Long deckCardRevision) {
+        this.deckCardRevision = deckCardRevision;
+    }
+
+    public Long getBlackDeckCursor() {
+        return blackDeckCursor;
+    }
+
+    public void setBlackDeckCursor(Long blackDeckCursor) {
+        this.blackDeckCursor = blackDeckCursor;
+    }
+
+    public Long getWhiteDeckCursor() {
+        return whiteDeckCursor;
+    }
+
+    public void setWhiteDeckCursor(Long whiteDeckCursor) {
+        this.whiteDeckCursor = whiteDeckCursor;
+    }
+
+    public Long getDeckCursor(CardTypeEnum cardTypeEnum) {
+        return cardTypeEnum == CardTypeEnum.BLACK ? blackDeckCursor : whiteDeckCursor;
+    }
+
+    public void setDeckCursor(CardTypeEnum cardTypeEnum, Long deckCursor) {
+        if (cardTypeEnum == CardTypeEnum.BLACK) {
+            this.blackDeckCursor = deckCursor;
+        } else {
+            this.whiteDeckCursor = deckCursor;
+        }
+    }
+
     public Dictionary getDictionary() {
         return dictionary;
     }
@@ -148,14 +212,6 @@ public class Game extends Base {
         this.players = players;
     }
 
-    public List<GameDeckCard> getDeckCards() {
-        return deckCards;
-    }
-
-    public void setDeckCards(List<GameDeckCard> deckCards) {
-        this.deckCards = deckCards;
-    }
-
     public List<Player> getDeletionVotes() {
         return deletionVotes;
     }
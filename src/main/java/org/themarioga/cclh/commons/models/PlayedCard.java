@@ -21,6 +21,8 @@ public class PlayedCard implements Serializable {
     @ManyToOne(cascade = CascadeType.PERSIST, fetch = FetchType.LAZY)
     @JoinColumn(name = "card_id", referencedColumnName = "id")
     private Card card;
+    @Column(name = "votes", nullable = false)
+    private Integer votes = 0;
 
     public Table getTable() {
         return table;
@@ -46,6 +48,14 @@ public class PlayedCard implements Serializable {
         this.card = card;
     }
 
+    public Integer getVotes() {
+        return votes;
+    }
+
+    public void setVotes(Integer votes) {
+        this.votes = votes;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -12,7 +12,8 @@ import java.util.Objects;
 public class Player extends Base {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "player_id")
+    @TableGenerator(name = "player_id", table = "t_id_generator", pkColumnName = "name", valueColumnName = "next_val", pkColumnValue = "player", allocationSize = 50)
     private Long id;
     @Column(name = "join_order", nullable = false)
     private Integer joinOrder;
@@ -83,6 +84,23 @@ public class Player extends Base {
         this.hand = hand;
     }
 
+    public PlayerHandCard getHandCardByCardId(long cardId) {
+        // No index by card is kept for the same reason as in Table, a hand is a handful of cards
+        for (PlayerHandCard playerHandCard : hand) {
+            if (Objects.equals(playerHandCard.getCard().getId(), cardId)) return playerHandCard;
+        }
+
+        return null;
+    }
+
+    public void addHandCard(PlayerHandCard playerHandCard) {
+        hand.add(playerHandCard);
+    }
+
+    public void removeHandCard(PlayerHandCard playerHandCard) {
+        hand.remove(playerHandCard);
+    }
+
     public List<PlayedCard> getPlayedCards() {
         return playedCards;
     }
@@ -106,12 +124,12 @@ public class Player extends Base {
         if (Hibernate.getClass(this) != Hibernate.getClass(object)) {
             return false;
         }
-        return Objects.equals(id, ((Player) object).id);
+        return Objects.equals(getId(), ((Player) object).getId());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id);
+        return Objects.hash(getId());
     }
 
     @Override
@@ -1,6 +1,7 @@
 package org.themarioga.cclh.commons.models;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.themarioga.cclh.commons.enums.TableStatusEnum;
 
 import java.io.Serializable;
@@ -16,6 +17,10 @@ public class Table implements Serializable {
     @OneToOne(cascade = CascadeType.PERSIST, fetch = FetchType.LAZY)
     @JoinColumn(name = "game_id", referencedColumnName = "id")
     private Game game;
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
     @Column(name = "status", nullable = false)
     private TableStatusEnum status;
     @Column(name = "round_number", nullable = false)
@@ -42,6 +47,14 @@ public class Table implements Serializable {
         this.game = game;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public TableStatusEnum getStatus() {
         return status;
     }
@@ -90,6 +103,49 @@ public class Table implements Serializable {
         this.votedCards = votedCards;
     }
 
+    public int getPlayedCardsCount() {
+        return playedCards.size();
+    }
+
+    public int getVotedCardsCount() {
+        return votedCards.size();
+    }
+
+    // No index by player or card is kept: Hibernate fills and merges these lists through the fields, where no index
+    // could follow them. A table holds at most one played and one voted card per player, so a scan is enough
+
+    public PlayedCard getPlayedCardByPlayerId(long playerId) {
+        for (PlayedCard playedCard : playedCards) {
+            if (Objects.equals(playedCard.getPlayer().getId(), playerId)) return playedCard;
+        }
+
+        return null;
+    }
+
+    public PlayedCard getPlayedCardByCardId(long cardId) {
+        for (PlayedCard playedCard : playedCards) {
+            if (Objects.equals(playedCard.getCard().getId(), cardId)) return playedCard;
+        }
+
+        return null;
+    }
+
+    public VotedCard getVotedCardByPlayerId(long playerId) {
+        for (VotedCard votedCard : votedCards) {
+            if (Objects.equals(votedCard.getPlayer().getId(), playerId)) return votedCard;
+        }
+
+        return null;
+    }
+
+    public void addPlayedCard(PlayedCard playedCard) {
+        playedCards.add(playedCard);
+    }
+
+    public void addVotedCard(VotedCard votedCard) {
+        votedCards.add(votedCard);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
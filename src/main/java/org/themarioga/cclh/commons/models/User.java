@@ -1,17 +1,20 @@
 package org.themarioga.cclh.commons.models;
 
 import jakarta.persistence.*;
+import org.themarioga.cclh.commons.util.UsernameNormalizer;
 
 import java.util.Objects;
 
 @Entity
-@jakarta.persistence.Table(name = "t_user")
+@jakarta.persistence.Table(name = "t_user", indexes = @Index(name = "t_user_username_index", columnList = "username"))
 public class User extends Base {
 
     @Id
     private Long id;
     @Column(name = "name", length = 256, nullable = false)
     private String name;
+    @Column(name = "username", length = 256)
+    private String username;
     @Column(name = "active", nullable = false)
     private Boolean active;
     @ManyToOne(cascade = CascadeType.PERSIST, fetch = FetchType.LAZY)
@@ -32,6 +35,15 @@ public class User extends Base {
 
     public void setName(String name) {
         this.name = name;
+        this.username = UsernameNormalizer.normalize(name);
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
     }
 
     public Boolean getActive() {
@@ -0,0 +1,146 @@
+package org.themarioga.cclh.commons.services.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.themarioga.cclh.commons.dao.intf.BroadcastCheckpointDao;
+import org.themarioga.cclh.commons.dao.intf.RoomDao;
+import org.themarioga.cclh.commons.dao.intf.UserDao;
+import org.themarioga.cclh.commons.enums.BroadcastTargetEnum;
+import org.themarioga.cclh.commons.enums.ErrorEnum;
+import org.themarioga.cclh.commons.exceptions.ApplicationException;
+import org.themarioga.cclh.commons.models.BroadcastCheckpoint;
+import org.themarioga.cclh.commons.services.intf.BroadcastSender;
+import org.themarioga.cclh.commons.services.intf.BroadcastService;
+import org.themarioga.cclh.commons.util.Assert;
+import org.themarioga.cclh.commons.util.RateLimiter;
+
+import java.util.Date;
+import java.util.List;
+
+@Service
+public class BroadcastServiceImpl implements BroadcastService {
+
+    private final Logger logger = LoggerFactory.getLogger(BroadcastServiceImpl.class);
+
+    private final BroadcastCheckpointDao broadcastCheckpointDao;
+    private final UserDao userDao;
+    private final RoomDao roomDao;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final RateLimiter rateLimiter;
+
+    @Autowired
+    public BroadcastServiceImpl(BroadcastCheckpointDao broadcastCheckpointDao, UserDao userDao, RoomDao roomDao, PlatformTransactionManager transactionManager, @Value("${cclh.broadcast.batch-size:25}") int batchSize, @Value("${cclh.broadcast.messages-per-second:25}") double messagesPerSecond) {
+        this.broadcastCheckpointDao = broadcastCheckpointDao;
+        this.userDao = userDao;
+        this.roomDao = roomDao;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.rateLimiter = new RateLimiter(messagesPerSecond);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long broadcast(String broadcastId, BroadcastSender sender) {
+        logger.debug("Broadcasting {}", broadcastId);
+
+        // Check the broadcast id
+        Assert.assertNotEmpty(broadcastId, ErrorEnum.BROADCAST_ID_EMPTY);
+
+        BroadcastCheckpoint checkpoint = transactionTemplate.execute(status -> findOrCreateCheckpoint(broadcastId));
+        if (Boolean.TRUE.equals(checkpoint.getCompleted())) {
+            logger.info("Broadcast {} already completed", broadcastId);
+
+            return 0;
+        }
+
+        // Every page is read in its own short transaction and the checkpoint is saved after each batch sent,
+        // so memory stays flat and an interrupted broadcast resumes after its last batch
+        long sent = 0;
+        for (BroadcastTargetEnum target : BroadcastTargetEnum.values()) {
+            if (target.ordinal() < checkpoint.getTarget().ordinal()) continue;
+
+            Long lastId = target == checkpoint.getTarget() ? checkpoint.getLastId() : null;
+            List<Long> ids;
+            do {
+                Long afterId = lastId;
+                ids = transactionTemplate.execute(status -> findActiveIdsAfter(target, afterId));
+                if (ids.isEmpty()) break;
+
+                try {
+                    rateLimiter.acquire(ids.size());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+
+                    logger.warn("Broadcast {} interrupted, it will resume after {} {}", broadcastId, target, lastId);
+
+                    return sent;
+                }
+
+                sender.send(target, ids);
+                sent += ids.size();
+                lastId = ids.get(ids.size() - 1);
+
+                saveCheckpoint(broadcastId, target, lastId, ids.size(), false);
+            } while (ids.size() == batchSize);
+        }
+
+        saveCheckpoint(broadcastId, BroadcastTargetEnum.ROOMS, null, 0, true);
+
+        logger.info("Broadcast {} completed, {} messages sent in this run", broadcastId, sent);
+
+        return sent;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public BroadcastCheckpoint getCheckpoint(String broadcastId) {
+        logger.debug("Getting checkpoint of broadcast {}", broadcastId);
+
+        return broadcastCheckpointDao.findById(broadcastId);
+    }
+
+    private BroadcastCheckpoint findOrCreateCheckpoint(String broadcastId) {
+        BroadcastCheckpoint checkpoint = broadcastCheckpointDao.findById(broadcastId);
+        if (checkpoint != null) {
+            logger.info("Resuming broadcast {} after {} {}", broadcastId, checkpoint.getTarget(), checkpoint.getLastId());
+
+            return checkpoint;
+        }
+
+        checkpoint = new BroadcastCheckpoint();
+        checkpoint.setId(broadcastId);
+        checkpoint.setTarget(BroadcastTargetEnum.values()[0]);
+        checkpoint.setSent(0L);
+        checkpoint.setCompleted(false);
+        checkpoint.setLastUpdate(new Date());
+
+        return broadcastCheckpointDao.create(checkpoint);
+    }
+
+    private List<Long> findActiveIdsAfter(BroadcastTargetEnum target, Long lastId) {
+        return switch (target) {
+            case USERS -> userDao.findActiveIdsAfter(lastId, batchSize);
+            case ROOMS -> roomDao.findActiveIdsAfter(lastId, batchSize);
+        };
+    }
+
+    private void saveCheckpoint(String broadcastId, BroadcastTargetEnum target, Long lastId, int sent, boolean completed) {
+        transactionTemplate.executeWithoutResult(status -> {
+            BroadcastCheckpoint checkpoint = broadcastCheckpointDao.findById(broadcastId);
+            checkpoint.setTarget(target);
+            checkpoint.setLastId(lastId);
+            checkpoint.setSent(checkpoint.getSent() + sent);
+            checkpoint.setCompleted(completed);
+            checkpoint.setLastUpdate(new Date());
+        });
+    }
+
+}
@@ -5,6 +5,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.themarioga.cclh.commons.dao.intf.CardDao;
 import org.themarioga.cclh.commons.enums.CardTypeEnum;
@@ -16,6 +17,7 @@ import org.themarioga.cclh.commons.models.*;
 import org.themarioga.cclh.commons.services.intf.CardService;
 import org.themarioga.cclh.commons.services.intf.ConfigurationService;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -41,7 +43,7 @@ public class CardServiceImpl implements CardService {
         if (cardDao.checkCardExistsByDictionaryTypeAndText(dictionary, type, text))
             throw new CardAlreadyExistsException();
 
-        checkDictionaryAlreadyFilled(dictionary, type);
+        checkDictionaryAlreadyFilled(dictionary, type, 1);
 
         if ((type == CardTypeEnum.WHITE && text.length() > getDictionaryWhiteCardMaxLength()) || (type == CardTypeEnum.BLACK && text.length() > getDictionaryBlackCardMaxLength()))
             throw new CardTextExcededLength();
@@ -50,11 +52,56 @@ public class CardServiceImpl implements CardService {
         card.setDictionary(dictionary);
         card.setText(text);
         card.setType(type);
+        card.setRevision(cardDao.nextCardRevision(dictionary));
         card.setCreationDate(new Date());
 
         return cardDao.create(card);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.REQUIRED, rollbackFor = ApplicationException.class)
+    public List<Card> create(Dictionary dictionary, CardTypeEnum type, List<String> texts) {
+        logger.debug("Creating {} cards with dictionary: {}, type: {}", texts.size(), dictionary, type);
+
+        // Check the whole batch in the same order as a single card, leaving text comparisons to the database collation
+        if (cardDao.checkAnyCardExistsByDictionaryTypeAndTexts(dictionary, type, texts))
+            throw new CardAlreadyExistsException();
+
+        checkDictionaryAlreadyFilled(dictionary, type, texts.size());
+
+        for (String text : texts) {
+            if ((type == CardTypeEnum.WHITE && text.length() > getDictionaryWhiteCardMaxLength()) || (type == CardTypeEnum.BLACK && text.length() > getDictionaryBlackCardMaxLength()))
+                throw new CardTextExcededLength();
+        }
+
+        // The whole batch joins the decks of games started after it
+        Long revision = cardDao.nextCardRevision(dictionary);
+        Date creationDate = new Date();
+        List<Card> cards = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            Card card = new Card();
+            card.setDictionary(dictionary);
+            card.setText(text);
+            card.setType(type);
+            card.setRevision(revision);
+            card.setCreationDate(creationDate);
+
+            cards.add(cardDao.create(card));
+        }
+
+        // Ids come from the pooled generator so the inserts go out as JDBC batches, texts repeated within the batch
+        // are caught by the unique constraint so they compare as the database compares them
+        try {
+            cardDao.flush(cards.size());
+        } catch (DataIntegrityViolationException e) {
+            logger.error("Error creating cards: Repeated text in batch", e);
+
+            throw new CardAlreadyExistsException();
+        }
+
+        return cards;
+    }
+
     @Override
     @Transactional(propagation = Propagation.REQUIRED, rollbackFor = ApplicationException.class)
     public void changeText(Card card, String newText) {
@@ -118,46 +165,46 @@ public class CardServiceImpl implements CardService {
     @Override
     @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
     public int getDictionaryMinWhiteCards() {
-        return Integer.parseInt(configurationService.getConfiguration("dictionaries_min_whitecards"));
+        return configurationService.getDictionariesMinWhiteCards();
     }
 
     @Override
     @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
     public int getDictionaryMaxWhiteCards() {
-        return Integer.parseInt(configurationService.getConfiguration("dictionaries_max_whitecards"));
+        return configurationService.getDictionariesMaxWhiteCards();
     }
 
     @Override
     @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
     public int getDictionaryWhiteCardMaxLength() {
-        return Integer.parseInt(configurationService.getConfiguration("dictionaries_max_whitecard_length"));
+        return configurationService.getDictionariesMaxWhiteCardLength();
     }
 
     @Override
     @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
     public int getDictionaryMinBlackCards() {
-        return Integer.parseInt(configurationService.getConfiguration("dictionaries_min_blackcards"));
+        return configurationService.getDictionariesMinBlackCards();
     }
 
     @Override
     @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
     public int getDictionaryMaxBlackCards() {
-        return Integer.parseInt(configurationService.getConfiguration("dictionaries_max_blackcards"));
+        return configurationService.getDictionariesMaxBlackCards();
     }
 
     @Override
     @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
     public int getDictionaryBlackCardMaxLength() {
-        return Integer.parseInt(configurationService.getConfiguration("dictionaries_max_blackcard_length"));
+        return configurationService.getDictionariesMaxBlackCardLength();
     }
 
-    private void checkDictionaryAlreadyFilled(Dictionary dictionary, CardTypeEnum type) {
+    private void checkDictionaryAlreadyFilled(Dictionary dictionary, CardTypeEnum type, int newCards) {
         if (type == CardTypeEnum.WHITE) {
-            if (cardDao.countCardsByDictionaryIdAndType(dictionary, CardTypeEnum.WHITE) >= getDictionaryMaxWhiteCards()) {
+            if (cardDao.countCardsByDictionaryIdAndType(dictionary, CardTypeEnum.WHITE) + newCards > getDictionaryMaxWhiteCards()) {
                 throw new DictionaryAlreadyFilledException();
             }
         } else if (type == CardTypeEnum.BLACK) {
-            if (cardDao.countCardsByDictionaryIdAndType(dictionary, CardTypeEnum.BLACK) >= getDictionaryMaxBlackCards()) {
+            if (cardDao.countCardsByDictionaryIdAndType(dictionary, CardTypeEnum.BLACK) + newCards > getDictionaryMaxBlackCards()) {
                 throw new DictionaryAlreadyFilledException();
             }
         }
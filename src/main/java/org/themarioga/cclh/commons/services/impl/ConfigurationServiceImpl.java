@@ -1,5 +1,7 @@
 package org.themarioga.cclh.commons.services.impl;
 
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
@@ -7,16 +9,43 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.themarioga.cclh.commons.dao.intf.ConfigurationDao;
+import org.themarioga.cclh.commons.enums.GamePunctuationTypeEnum;
+import org.themarioga.cclh.commons.enums.GameTypeEnum;
 import org.themarioga.cclh.commons.exceptions.ApplicationException;
+import org.themarioga.cclh.commons.exceptions.configuration.ConfigurationInvalidException;
 import org.themarioga.cclh.commons.services.intf.ConfigurationService;
 
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.IntFunction;
+
 @Service
 public class ConfigurationServiceImpl implements ConfigurationService {
 
+    private static final String CONFIGURATION_VERSION_KEY = "configuration_version";
+    private static final String GAME_WHITECARDS_IN_HAND_KEY = "game_whitecards_in_hand";
+    private static final String GAME_DEFAULT_GAME_TYPE_KEY = "game_default_game_type";
+    private static final String GAME_DEFAULT_GAME_PUNCTUATION_TYPE_KEY = "game_default_game_punctuation_type";
+    private static final String GAME_DEFAULT_GAME_LENGTH_KEY = "game_default_game_legth";
+    private static final String GAME_MIN_NUMBER_OF_PLAYERS_KEY = "game_min_number_of_players";
+    private static final String GAME_MAX_NUMBER_OF_PLAYERS_KEY = "game_max_number_of_players";
+    private static final String GAME_DEFAULT_DICTIONARY_ID_KEY = "game_default_dictionary_id";
+    private static final String DICTIONARIES_MIN_WHITECARDS_KEY = "dictionaries_min_whitecards";
+    private static final String DICTIONARIES_MAX_WHITECARDS_KEY = "dictionaries_max_whitecards";
+    private static final String DICTIONARIES_MAX_WHITECARD_LENGTH_KEY = "dictionaries_max_whitecard_length";
+    private static final String DICTIONARIES_MIN_BLACKCARDS_KEY = "dictionaries_min_blackcards";
+    private static final String DICTIONARIES_MAX_BLACKCARDS_KEY = "dictionaries_max_blackcards";
+    private static final String DICTIONARIES_MAX_BLACKCARD_LENGTH_KEY = "dictionaries_max_blackcard_length";
+    private static final String DICTIONARIES_MAX_COLLABORATORS_KEY = "dictionaries_max_collaborators";
+
     private final Logger logger = LoggerFactory.getLogger(ConfigurationServiceImpl.class);
 
     private final ConfigurationDao configurationDao;
 
+    private volatile ConfigurationSnapshot snapshot;
+
     @Autowired
     public ConfigurationServiceImpl(ConfigurationDao configurationDao) {
         this.configurationDao = configurationDao;
@@ -27,7 +56,223 @@ public class ConfigurationServiceImpl implements ConfigurationService {
     public String getConfiguration(String key) {
         logger.debug("Getting configuration by key: {}", key);
 
-        return configurationDao.getConfiguration(key);
+        return getSnapshot().values.get(key);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public int getGameWhiteCardsInHand() {
+        return getSnapshot(GAME_WHITECARDS_IN_HAND_KEY).gameWhiteCardsInHand;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public GameTypeEnum getGameDefaultGameType() {
+        return getSnapshot(GAME_DEFAULT_GAME_TYPE_KEY).gameDefaultGameType;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public GamePunctuationTypeEnum getGameDefaultGamePunctuationType() {
+        return getSnapshot(GAME_DEFAULT_GAME_PUNCTUATION_TYPE_KEY).gameDefaultGamePunctuationType;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public int getGameDefaultGameLength() {
+        return getSnapshot(GAME_DEFAULT_GAME_LENGTH_KEY).gameDefaultGameLength;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public int getGameMinNumberOfPlayers() {
+        return getSnapshot(GAME_MIN_NUMBER_OF_PLAYERS_KEY).gameMinNumberOfPlayers;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public int getGameMaxNumberOfPlayers() {
+        return getSnapshot(GAME_MAX_NUMBER_OF_PLAYERS_KEY).gameMaxNumberOfPlayers;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public long getGameDefaultDictionaryId() {
+        return getSnapshot(GAME_DEFAULT_DICTIONARY_ID_KEY).gameDefaultDictionaryId;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public int getDictionariesMinWhiteCards() {
+        return getSnapshot(DICTIONARIES_MIN_WHITECARDS_KEY).dictionariesMinWhiteCards;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public int getDictionariesMaxWhiteCards() {
+        return getSnapshot(DICTIONARIES_MAX_WHITECARDS_KEY).dictionariesMaxWhiteCards;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public int getDictionariesMaxWhiteCardLength() {
+        return getSnapshot(DICTIONARIES_MAX_WHITECARD_LENGTH_KEY).dictionariesMaxWhiteCardLength;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public int getDictionariesMinBlackCards() {
+        return getSnapshot(DICTIONARIES_MIN_BLACKCARDS_KEY).dictionariesMinBlackCards;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public int getDictionariesMaxBlackCards() {
+        return getSnapshot(DICTIONARIES_MAX_BLACKCARDS_KEY).dictionariesMaxBlackCards;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public int getDictionariesMaxBlackCardLength() {
+        return getSnapshot(DICTIONARIES_MAX_BLACKCARD_LENGTH_KEY).dictionariesMaxBlackCardLength;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public int getDictionariesMaxCollaborators() {
+        return getSnapshot(DICTIONARIES_MAX_COLLABORATORS_KEY).dictionariesMaxCollaborators;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public String getDefaultLanguage() {
+        return getSnapshot().defaultLanguage;
+    }
+
+    @Override
+    @EventListener(ContextRefreshedEvent.class)
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public void reload() {
+        logger.debug("Loading configuration");
+
+        ConfigurationSnapshot loadedSnapshot = new ConfigurationSnapshot(configurationDao.getConfigurations());
+        if (!loadedSnapshot.invalidKeys.isEmpty()) {
+            logger.error("Missing or invalid configuration keys, reading them will fail: {}", loadedSnapshot.invalidKeys);
+        }
+
+        snapshot = loadedSnapshot;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public void refreshIfChanged() {
+        String version = configurationDao.getConfiguration(CONFIGURATION_VERSION_KEY);
+
+        if (!Objects.equals(version, getSnapshot().version)) {
+            logger.info("Configuration version changed from {} to {}, reloading", getSnapshot().version, version);
+
+            reload();
+        }
+    }
+
+    private ConfigurationSnapshot getSnapshot(String key) {
+        ConfigurationSnapshot currentSnapshot = getSnapshot();
+        if (currentSnapshot.invalidKeys.contains(key)) {
+            logger.error("Error getting configuration {}: Missing or invalid value '{}'", key, currentSnapshot.values.get(key));
+            throw new ConfigurationInvalidException();
+        }
+
+        return currentSnapshot;
+    }
+
+    private ConfigurationSnapshot getSnapshot() {
+        ConfigurationSnapshot currentSnapshot = snapshot;
+        if (currentSnapshot == null) {
+            reload();
+            currentSnapshot = snapshot;
+        }
+
+        return currentSnapshot;
+    }
+
+    /**
+     * Typed values parsed once per load. A missing or malformed key is kept in invalidKeys and only fails when it is read,
+     * so it does not take the rest of the configuration down with it.
+     */
+    private static final class ConfigurationSnapshot {
+
+        private final Map<String, String> values;
+        private final Set<String> invalidKeys = new TreeSet<>();
+        private final String version;
+        private final int gameWhiteCardsInHand;
+        private final GameTypeEnum gameDefaultGameType;
+        private final GamePunctuationTypeEnum gameDefaultGamePunctuationType;
+        private final int gameDefaultGameLength;
+        private final int gameMinNumberOfPlayers;
+        private final int gameMaxNumberOfPlayers;
+        private final long gameDefaultDictionaryId;
+        private final int dictionariesMinWhiteCards;
+        private final int dictionariesMaxWhiteCards;
+        private final int dictionariesMaxWhiteCardLength;
+        private final int dictionariesMinBlackCards;
+        private final int dictionariesMaxBlackCards;
+        private final int dictionariesMaxBlackCardLength;
+        private final int dictionariesMaxCollaborators;
+        private final String defaultLanguage;
+
+        private ConfigurationSnapshot(Map<String, String> values) {
+            this.values = Map.copyOf(values);
+            this.version = values.get(CONFIGURATION_VERSION_KEY);
+            this.gameWhiteCardsInHand = parseInt(GAME_WHITECARDS_IN_HAND_KEY);
+            this.gameDefaultGameType = parseEnum(GAME_DEFAULT_GAME_TYPE_KEY, GameTypeEnum::getEnum);
+            this.gameDefaultGamePunctuationType = parseEnum(GAME_DEFAULT_GAME_PUNCTUATION_TYPE_KEY, GamePunctuationTypeEnum::getEnum);
+            this.gameDefaultGameLength = parseInt(GAME_DEFAULT_GAME_LENGTH_KEY);
+            this.gameMinNumberOfPlayers = parseInt(GAME_MIN_NUMBER_OF_PLAYERS_KEY);
+            this.gameMaxNumberOfPlayers = parseInt(GAME_MAX_NUMBER_OF_PLAYERS_KEY);
+            this.gameDefaultDictionaryId = parseLong(GAME_DEFAULT_DICTIONARY_ID_KEY);
+            this.dictionariesMinWhiteCards = parseInt(DICTIONARIES_MIN_WHITECARDS_KEY);
+            this.dictionariesMaxWhiteCards = parseInt(DICTIONARIES_MAX_WHITECARDS_KEY);
+            this.dictionariesMaxWhiteCardLength = parseInt(DICTIONARIES_MAX_WHITECARD_LENGTH_KEY);
+            this.dictionariesMinBlackCards = parseInt(DICTIONARIES_MIN_BLACKCARDS_KEY);
+            this.dictionariesMaxBlackCards = parseInt(DICTIONARIES_MAX_BLACKCARDS_KEY);
+            this.dictionariesMaxBlackCardLength = parseInt(DICTIONARIES_MAX_BLACKCARD_LENGTH_KEY);
+            this.dictionariesMaxCollaborators = parseInt(DICTIONARIES_MAX_COLLABORATORS_KEY);
+            this.defaultLanguage = values.get("default_language");
+        }
+
+        private int parseInt(String key) {
+            return (int) parseLong(key, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+
+        private long parseLong(String key) {
+            return parseLong(key, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+
+        private long parseLong(String key, long min, long max) {
+            String value = values.get(key);
+            if (value != null) {
+                try {
+                    long number = Long.parseLong(value.trim());
+                    if (number >= min && number <= max) return number;
+                } catch (NumberFormatException e) {
+                    // Marked as invalid below
+                }
+            }
+
+            invalidKeys.add(key);
+            return 0;
+        }
+
+        private <E extends Enum<E>> E parseEnum(String key, IntFunction<E> getEnum) {
+            int ordinal = parseInt(key);
+            if (invalidKeys.contains(key)) return null;
+
+            E value = getEnum.apply(ordinal);
+            if (value == null) invalidKeys.add(key);
+
+            return value;
+        }
+
     }
 
 }
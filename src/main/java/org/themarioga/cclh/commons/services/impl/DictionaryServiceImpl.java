@@ -253,13 +253,13 @@ public class DictionaryServiceImpl implements DictionaryService {
     @Override
     @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
     public Dictionary getDefaultDictionary() {
-        return dictionaryDao.findOne(Long.parseLong(configurationService.getConfiguration("game_default_dictionary_id")));
+        return dictionaryDao.findOne(configurationService.getGameDefaultDictionaryId());
     }
 
     @Override
     @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
     public int getDictionaryMaxCollaborators() {
-        return Integer.parseInt(configurationService.getConfiguration("dictionaries_max_collaborators"));
+        return configurationService.getDictionariesMaxCollaborators();
     }
 
 }
@@ -0,0 +1,145 @@
+package org.themarioga.cclh.commons.services.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.themarioga.cclh.commons.services.intf.GameCommandExecutor;
+import org.themarioga.cclh.commons.services.intf.OptimisticLockRetrier;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Service
+public class GameCommandExecutorImpl implements GameCommandExecutor, DisposableBean {
+
+    private final Logger logger = LoggerFactory.getLogger(GameCommandExecutorImpl.class);
+
+    private static final ThreadLocal<Long> currentRoomId = new ThreadLocal<>();
+
+    private static final String DEFAULT_OPERATION = "command";
+
+    private final OptimisticLockRetrier optimisticLockRetrier;
+    private final ExecutorService executorService;
+
+    private final ConcurrentMap<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    @Autowired
+    public GameCommandExecutorImpl(OptimisticLockRetrier optimisticLockRetrier, @Value("${cclh.game.executor.threads:0}") int threads) {
+        this.optimisticLockRetrier = optimisticLockRetrier;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors() * 2;
+        this.executorService = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "cclh-game-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(long roomId, Supplier<T> command) {
+        return submit(roomId, DEFAULT_OPERATION, command);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(long roomId, String operation, Supplier<T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                result.complete(optimisticLockRetrier.execute(operation, command));
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+            }
+        };
+
+        // Queue the command and wake the mailbox up if it was idle
+        boolean[] schedule = new boolean[1];
+        Mailbox mailbox = mailboxes.compute(roomId, (id, current) -> {
+            Mailbox target = current != null ? current : new Mailbox(id);
+            target.commands.add(task);
+            schedule[0] = !target.scheduled;
+            target.scheduled = true;
+            return target;
+        });
+        if (schedule[0]) executorService.execute(() -> drain(mailbox));
+
+        return result;
+    }
+
+    @Override
+    public <T> T execute(long roomId, Supplier<T> command) {
+        return execute(roomId, DEFAULT_OPERATION, command);
+    }
+
+    @Override
+    public <T> T execute(long roomId, String operation, Supplier<T> command) {
+        // A command of the same game can not wait for its own mailbox
+        if (Objects.equals(currentRoomId.get(), roomId)) return optimisticLockRetrier.execute(operation, command);
+
+        // Nor for the mailbox of another game, with every thread waiting like this the pool would stall
+        if (currentRoomId.get() != null)
+            throw new IllegalStateException("A command of room " + currentRoomId.get() + " can not wait for a command of room " + roomId + ", submit it instead");
+
+        try {
+            return submit(roomId, operation, command).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw e;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdown();
+    }
+
+    private void drain(Mailbox mailbox) {
+        logger.debug("Draining commands of room {}", mailbox.roomId);
+
+        currentRoomId.set(mailbox.roomId);
+        try {
+            while (true) {
+                Runnable command = mailbox.commands.poll();
+                if (command != null) {
+                    command.run();
+                } else if (release(mailbox)) {
+                    return;
+                }
+            }
+        } finally {
+            currentRoomId.remove();
+        }
+    }
+
+    private boolean release(Mailbox mailbox) {
+        // Idle mailboxes are dropped, unless a command arrived in the meantime
+        boolean[] released = new boolean[1];
+        mailboxes.computeIfPresent(mailbox.roomId, (id, current) -> {
+            if (!current.commands.isEmpty()) return current;
+
+            current.scheduled = false;
+            released[0] = true;
+            return null;
+        });
+        return released[0];
+    }
+
+    private static class Mailbox {
+
+        private final long roomId;
+        private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+        private boolean scheduled;
+
+        private Mailbox(long roomId) {
+            this.roomId = roomId;
+        }
+
+    }
+
+}
@@ -0,0 +1,111 @@
+package org.themarioga.cclh.commons.services.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.themarioga.cclh.commons.events.GameEvent;
+import org.themarioga.cclh.commons.services.intf.GameEventBus;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+@Service
+public class GameEventBusImpl implements GameEventBus, DisposableBean {
+
+    private final Logger logger = LoggerFactory.getLogger(GameEventBusImpl.class);
+
+    private final List<Subscription<?>> subscriptions = new CopyOnWriteArrayList<>();
+    private final LongAdder droppedEvents = new LongAdder();
+    private final ThreadPoolExecutor dispatcher;
+
+    @Autowired
+    public GameEventBusImpl(@Value("${cclh.game.events.queue-capacity:1024}") int queueCapacity) {
+        // A single thread keeps the events in order, a full queue drops events instead of blocking the games
+        this.dispatcher = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+            Thread thread = new Thread(runnable, "cclh-game-events");
+            thread.setDaemon(true);
+            return thread;
+        }, (runnable, executor) -> {
+            droppedEvents.increment();
+            logger.warn("Game event queue full, dropping event");
+        });
+    }
+
+    @Override
+    public void publish(GameEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(event);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(event);
+            }
+        });
+    }
+
+    @Override
+    public <E extends GameEvent> void subscribe(Class<E> eventType, Consumer<? super E> listener) {
+        subscriptions.add(new Subscription<>(eventType, listener));
+    }
+
+    @Override
+    public void unsubscribe(Consumer<?> listener) {
+        subscriptions.removeIf(subscription -> subscription.listener == listener);
+    }
+
+    @Override
+    public long getDroppedEventCount() {
+        return droppedEvents.sum();
+    }
+
+    @Override
+    public void destroy() {
+        dispatcher.shutdown();
+    }
+
+    private void dispatch(GameEvent event) {
+        if (subscriptions.isEmpty()) return;
+
+        dispatcher.execute(() -> {
+            for (Subscription<?> subscription : subscriptions) {
+                subscription.deliver(event);
+            }
+        });
+    }
+
+    private class Subscription<E extends GameEvent> {
+
+        private final Class<E> eventType;
+        private final Consumer<? super E> listener;
+
+        private Subscription(Class<E> eventType, Consumer<? super E> listener) {
+            this.eventType = eventType;
+            this.listener = listener;
+        }
+
+        private void deliver(GameEvent event) {
+            if (!eventType.isInstance(event)) return;
+
+            try {
+                listener.accept(eventType.cast(event));
+            } catch (RuntimeException e) {
+                logger.error("Game event listener failed on {}", event, e);
+            }
+        }
+
+    }
+
+}
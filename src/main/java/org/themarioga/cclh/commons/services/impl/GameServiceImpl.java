@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.themarioga.cclh.commons.dao.intf.GameDao;
 import org.themarioga.cclh.commons.enums.*;
+import org.themarioga.cclh.commons.events.*;
 import org.themarioga.cclh.commons.exceptions.ApplicationException;
 import org.themarioga.cclh.commons.exceptions.dictionary.DictionaryDoesntExistsException;
 import org.themarioga.cclh.commons.exceptions.game.*;
@@ -17,6 +18,7 @@ import org.themarioga.cclh.commons.models.*;
 import org.themarioga.cclh.commons.models.Dictionary;
 import org.themarioga.cclh.commons.services.intf.*;
 import org.themarioga.cclh.commons.util.Assert;
+import org.themarioga.cclh.commons.util.DeckOrder;
 
 import java.util.*;
 
@@ -33,9 +35,11 @@ public class GameServiceImpl implements GameService {
     private final PlayerService playerService;
     private final DictionaryService dictionaryService;
     private final ConfigurationService configurationService;
+    private final GameEventBus gameEventBus;
+    private final GameCommandExecutor gameCommandExecutor;
 
     @Autowired
-    public GameServiceImpl(GameDao gameDao, UserService userService, RoomService roomService, CardService cardService, PlayerService playerService, TableService tableService, DictionaryService dictionaryService, ConfigurationService configurationService) {
+    public GameServiceImpl(GameDao gameDao, UserService userService, RoomService roomService, CardService cardService, PlayerService playerService, TableService tableService, DictionaryService dictionaryService, ConfigurationService configurationService, GameEventBus gameEventBus, GameCommandExecutor gameCommandExecutor) {
         this.gameDao = gameDao;
         this.userService = userService;
         this.roomService = roomService;
@@ -44,6 +48,8 @@ public class GameServiceImpl implements GameService {
         this.tableService = tableService;
         this.dictionaryService = dictionaryService;
         this.configurationService = configurationService;
+        this.gameEventBus = gameEventBus;
+        this.gameCommandExecutor = gameCommandExecutor;
     }
 
     @Override
@@ -79,7 +85,11 @@ public class GameServiceImpl implements GameService {
         game.setDictionary(dictionaryService.getDefaultDictionary());
         game.setCreationDate(new Date());
 
-        return gameDao.create(game);
+        game = gameDao.create(game);
+
+        gameEventBus.publish(new GameCreatedEvent(game.getId(), room.getId(), creator.getId()));
+
+        return game;
     }
 
     @Override
@@ -213,7 +223,11 @@ public class GameServiceImpl implements GameService {
         // Add player to game
         game.getPlayers().add(player);
 
-        return gameDao.update(game);
+        game = gameDao.update(game);
+
+        gameEventBus.publish(new PlayerJoinedEvent(game.getId(), game.getRoom().getId(), player.getId(), player.getUser().getId()));
+
+        return game;
     }
 
     @Override
@@ -263,8 +277,11 @@ public class GameServiceImpl implements GameService {
         // Change game status
         game.setStatus(GameStatusEnum.STARTED);
 
-        // Add cards to game deck
-        gameDao.transferCardsToGameDeck(game);
+        // The deck is the dictionary at its current card revision, shuffled by the seed and drawn from the top
+        game.setDeckSeed(new Random().nextLong());
+        game.setDeckCardRevision(gameDao.getDictionaryCardRevision(game.getDictionary()));
+        game.setBlackDeckCursor(null);
+        game.setWhiteDeckCursor(null);
 
         // Create table
         game.setTable(tableService.create(game));
@@ -280,6 +297,9 @@ public class GameServiceImpl implements GameService {
         // Check game exists
         Assert.assertNotNull(game, ErrorEnum.GAME_NOT_FOUND);
 
+        // Load what the round needs up front
+        game = gameDao.loadForRound(game);
+
         // Check if game is started
         if (game.getStatus() != GameStatusEnum.STARTED)
             throw new GameNotStartedException();
@@ -293,6 +313,10 @@ public class GameServiceImpl implements GameService {
         // Add white cards to player hands
         addWhiteCardsToPlayerHands(game);
 
+        Table table = game.getTable();
+        Long presidentUserId = table.getCurrentPresident() != null ? table.getCurrentPresident().getUser().getId() : null;
+        gameEventBus.publish(new RoundStartedEvent(game.getId(), game.getRoom().getId(), table.getCurrentRoundNumber(), table.getCurrentBlackCard().getId(), presidentUserId));
+
         return gameDao.update(game);
     }
 
@@ -304,12 +328,14 @@ public class GameServiceImpl implements GameService {
         // Check game exists
         Assert.assertNotNull(game, ErrorEnum.GAME_NOT_FOUND);
 
-        // End table round
+        // End table round, the round cards are deleted without being loaded
         tableService.endRound(game);
 
         // Send status to ended
         if (checkIfGameIsOver(game)) {
             game.setStatus(GameStatusEnum.ENDED);
+
+            gameEventBus.publish(new GameEndedEvent(game.getId(), game.getRoom().getId()));
         }
 
         return gameDao.update(game);
@@ -356,6 +382,9 @@ public class GameServiceImpl implements GameService {
         // Check game exists
         Assert.assertNotNull(game, ErrorEnum.GAME_NOT_FOUND);
 
+        // Load what the play needs up front
+        game = gameDao.loadForRound(game);
+
         // Check if game is started
         if (game.getStatus() != GameStatusEnum.STARTED)
             throw new GameNotStartedException();
@@ -391,6 +420,9 @@ public class GameServiceImpl implements GameService {
         // Check game exists
         Assert.assertNotNull(game, ErrorEnum.GAME_NOT_FOUND);
 
+        // Load what the vote needs up front
+        game = gameDao.loadForVoting(game);
+
         // Check if game is started
         if (game.getStatus() != GameStatusEnum.STARTED)
             throw new GameNotStartedException();
@@ -418,6 +450,36 @@ public class GameServiceImpl implements GameService {
         return gameDao.update(game);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NEVER)
+    public Game startRound(long roomId) {
+        return gameCommandExecutor.execute(roomId, "startRound", () -> startRound(getByRoomId(roomId)));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NEVER)
+    public Game endRound(long roomId) {
+        return gameCommandExecutor.execute(roomId, "endRound", () -> endRound(getByRoomId(roomId)));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NEVER)
+    public Game voteForDeletion(long roomId, long userId) {
+        return gameCommandExecutor.execute(roomId, "voteForDeletion", () -> voteForDeletion(getByRoomId(roomId), userId));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NEVER)
+    public Game playCard(long roomId, long userId, long cardId) {
+        return gameCommandExecutor.execute(roomId, "playCard", () -> playCard(getByRoomId(roomId), userId, cardId));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NEVER)
+    public Game voteForCard(long roomId, long userId, long cardId) {
+        return gameCommandExecutor.execute(roomId, "voteForCard", () -> voteForCard(getByRoomId(roomId), userId, cardId));
+    }
+
     @Override
     @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
     public Game getByRoom(Room room) {
@@ -445,26 +507,59 @@ public class GameServiceImpl implements GameService {
     private Card getBlackCardFromGameDeck(Game game) {
         logger.debug("Getting black card from deck to table {}", game);
 
-        GameDeckCard nextBlackCard = gameDao.getGameDeckCards(game, 1, CardTypeEnum.BLACK).get(0);
-        game.getDeckCards().remove(nextBlackCard);
+        List<Card> nextBlackCard = drawCardsFromGameDeck(game, 1, CardTypeEnum.BLACK);
 
-        return nextBlackCard.getCard();
+        return nextBlackCard.get(0);
     }
 
     private void addWhiteCardsToPlayerHands(Game game) {
-        int cardsInHand = Integer.parseInt(configurationService.getConfiguration("game_whitecards_in_hand"));
+        int cardsInHand = configurationService.getGameWhiteCardsInHand();
 
+        Map<Player, Integer> missingCardsByPlayer = new LinkedHashMap<>();
+        int totalMissingCards = 0;
         for (Player player : game.getPlayers()) {
             if (player.getHand().size() < cardsInHand) {
-                int missingCards = Math.min(cardsInHand - player.getHand().size(), player.getGame().getDeckCards().size());
+                missingCardsByPlayer.put(player, cardsInHand - player.getHand().size());
+                totalMissingCards += cardsInHand - player.getHand().size();
+            }
+        }
 
-                List<GameDeckCard> cardsToTransfer = new ArrayList<>(gameDao.getGameDeckCards(player.getGame(), missingCards, CardTypeEnum.WHITE));
+        if (totalMissingCards == 0) return;
 
-                playerService.transferWhiteCardsFromGameDeckToPlayerHand(player, cardsToTransfer);
+        // Draw the cards for the whole table at once
+        List<Card> cardsToTransfer = drawCardsFromGameDeck(game, totalMissingCards, CardTypeEnum.WHITE);
 
-                player.getGame().getDeckCards().removeAll(cardsToTransfer);
+        playerService.transferWhiteCardsFromGameDeckToPlayerHands(missingCardsByPlayer, cardsToTransfer);
+
+        // Send the hand rows as a JDBC batch
+        gameDao.flush(totalMissingCards);
+    }
+
+    private List<Card> drawCardsFromGameDeck(Game game, int cardNumber, CardTypeEnum cardTypeEnum) {
+        List<Card> drawnCards = gameDao.getGameDeckCards(game, cardNumber, cardTypeEnum, getCardIdsInPlay(game, cardTypeEnum));
+
+        // Move the cursor past the last drawn card, nothing else is written for the deck
+        if (!drawnCards.isEmpty()) {
+            game.setDeckCursor(cardTypeEnum, DeckOrder.key(game.getDeckSeed(), drawnCards.get(drawnCards.size() - 1).getId()));
+        }
+
+        return drawnCards;
+    }
+
+    private Set<Long> getCardIdsInPlay(Game game, CardTypeEnum cardTypeEnum) {
+        // Hands and the table are loaded for the round, played cards are cleared when the previous round ends
+        Set<Long> cardIdsInPlay = new HashSet<>();
+        if (cardTypeEnum == CardTypeEnum.BLACK) {
+            if (game.getTable().getCurrentBlackCard() != null)
+                cardIdsInPlay.add(game.getTable().getCurrentBlackCard().getId());
+        } else {
+            for (Player player : game.getPlayers()) {
+                for (PlayerHandCard playerHandCard : player.getHand()) {
+                    cardIdsInPlay.add(playerHandCard.getCard().getId());
+                }
             }
         }
+        return cardIdsInPlay;
     }
 
     private boolean checkIfGameIsOver(Game game) {
@@ -477,23 +572,23 @@ public class GameServiceImpl implements GameService {
     }
 
     private GameTypeEnum getDefaultGameMode() {
-        return GameTypeEnum.getEnum(Integer.parseInt(configurationService.getConfiguration("game_default_game_type")));
+        return configurationService.getGameDefaultGameType();
     }
 
     private GamePunctuationTypeEnum getDefaultGamePunctuationType() {
-        return GamePunctuationTypeEnum.getEnum(Integer.parseInt(configurationService.getConfiguration("game_default_game_punctuation_type")));
+        return configurationService.getGameDefaultGamePunctuationType();
     }
 
     private int getDefaultGameLength() {
-        return Integer.parseInt(configurationService.getConfiguration("game_default_game_legth"));
+        return configurationService.getGameDefaultGameLength();
     }
 
     private int getMinNumberOfPlayers() {
-        return Integer.parseInt(configurationService.getConfiguration("game_min_number_of_players"));
+        return configurationService.getGameMinNumberOfPlayers();
     }
 
     private int getDefaultMaxNumberOfPlayers() {
-        return Integer.parseInt(configurationService.getConfiguration("game_max_number_of_players"));
+        return configurationService.getGameMaxNumberOfPlayers();
     }
 
 }
@@ -41,7 +41,7 @@ public class LanguageServiceImpl implements LanguageService {
     public Lang getDefaultLanguage() {
         logger.debug("Getting default language");
 
-        return languageDao.getLanguage(configurationService.getConfiguration("default_language"));
+        return languageDao.getLanguage(configurationService.getDefaultLanguage());
     }
 
     @Override
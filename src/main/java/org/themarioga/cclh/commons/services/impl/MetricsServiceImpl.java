@@ -0,0 +1,70 @@
+package org.themarioga.cclh.commons.services.impl;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.themarioga.cclh.commons.dao.intf.GameDao;
+import org.themarioga.cclh.commons.dao.intf.TableDao;
+import org.themarioga.cclh.commons.enums.GameStatusEnum;
+import org.themarioga.cclh.commons.enums.TableStatusEnum;
+import org.themarioga.cclh.commons.exceptions.ApplicationException;
+import org.themarioga.cclh.commons.services.intf.MetricsService;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class MetricsServiceImpl implements MetricsService {
+
+    public static final String GAMES_GAUGE_NAME = "cclh.games.active";
+    public static final String TABLES_GAUGE_NAME = "cclh.tables.active";
+
+    private final Logger logger = LoggerFactory.getLogger(MetricsServiceImpl.class);
+
+    private final GameDao gameDao;
+    private final TableDao tableDao;
+
+    private final Map<GameStatusEnum, AtomicLong> gamesByStatus = new EnumMap<>(GameStatusEnum.class);
+    private final Map<TableStatusEnum, AtomicLong> tablesByStatus = new EnumMap<>(TableStatusEnum.class);
+
+    @Autowired
+    public MetricsServiceImpl(GameDao gameDao, TableDao tableDao, MeterRegistry meterRegistry) {
+        this.gameDao = gameDao;
+        this.tableDao = tableDao;
+
+        // Gauges read the last refreshed counts, scraping never hits the database
+        for (GameStatusEnum status : GameStatusEnum.values()) {
+            AtomicLong count = new AtomicLong();
+            gamesByStatus.put(status, count);
+            Gauge.builder(GAMES_GAUGE_NAME, count, AtomicLong::get).tag("status", status.name()).register(meterRegistry);
+        }
+        for (TableStatusEnum status : TableStatusEnum.values()) {
+            AtomicLong count = new AtomicLong();
+            tablesByStatus.put(status, count);
+            Gauge.builder(TABLES_GAUGE_NAME, count, AtomicLong::get).tag("status", status.name()).register(meterRegistry);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public void refreshStatusGauges() {
+        logger.debug("Refreshing game and table status gauges");
+
+        Map<GameStatusEnum, Long> gameCounts = gameDao.countByStatus();
+        for (Map.Entry<GameStatusEnum, AtomicLong> gauge : gamesByStatus.entrySet()) {
+            gauge.getValue().set(gameCounts.getOrDefault(gauge.getKey(), 0L));
+        }
+
+        Map<TableStatusEnum, Long> tableCounts = tableDao.countByStatus();
+        for (Map.Entry<TableStatusEnum, AtomicLong> gauge : tablesByStatus.entrySet()) {
+            gauge.getValue().set(tableCounts.getOrDefault(gauge.getKey(), 0L));
+        }
+    }
+
+}
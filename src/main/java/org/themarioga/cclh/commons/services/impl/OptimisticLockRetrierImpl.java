@@ -0,0 +1,113 @@
+package org.themarioga.cclh.commons.services.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import org.hibernate.StaleStateException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.themarioga.cclh.commons.exceptions.game.GameConcurrentlyModifiedException;
+import org.themarioga.cclh.commons.services.intf.OptimisticLockRetrier;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+@Service
+public class OptimisticLockRetrierImpl implements OptimisticLockRetrier {
+
+    public static final String EXECUTION_COUNTER_NAME = "cclh.game.retry.executions";
+    public static final String CONFLICT_COUNTER_NAME = "cclh.game.retry.conflicts";
+
+    private final Logger logger = LoggerFactory.getLogger(OptimisticLockRetrierImpl.class);
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public OptimisticLockRetrierImpl(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry, @Value("${cclh.game.retry.max-attempts:5}") int maxAttempts, @Value("${cclh.game.retry.backoff-ms:20}") long backoffMillis) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = Math.max(1, backoffMillis);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public <T> T execute(String operation, Supplier<T> mutation) {
+        // Inside a running transaction the stale game can not be read again, the outermost caller retries
+        if (TransactionSynchronizationManager.isActualTransactionActive()) return mutation.get();
+
+        counter(EXECUTION_COUNTER_NAME, operation).increment();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> mutation.get());
+            } catch (RuntimeException e) {
+                if (!isOptimisticLockFailure(e)) throw e;
+
+                counter(CONFLICT_COUNTER_NAME, operation).increment();
+
+                if (attempt >= maxAttempts) {
+                    logger.warn("Operation {} failed after {} attempts by concurrent modifications", operation, attempt);
+
+                    throw new GameConcurrentlyModifiedException();
+                }
+
+                logger.debug("Operation {} conflicted on attempt {}, retrying", operation, attempt);
+
+                backoff(attempt);
+            }
+        }
+    }
+
+    @Override
+    public long getExecutionCount(String operation) {
+        return (long) counter(EXECUTION_COUNTER_NAME, operation).count();
+    }
+
+    @Override
+    public long getConflictCount(String operation) {
+        return (long) counter(CONFLICT_COUNTER_NAME, operation).count();
+    }
+
+    @Override
+    public double getConflictRate(String operation) {
+        long executionCount = getExecutionCount(operation);
+        return executionCount > 0 ? (double) getConflictCount(operation) / executionCount : 0;
+    }
+
+    private void backoff(int attempt) {
+        // Full jitter, so the conflicting writers do not wake up together again
+        long maxDelay = backoffMillis << Math.min(attempt - 1, 10);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxDelay + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new GameConcurrentlyModifiedException();
+        }
+    }
+
+    private static boolean isOptimisticLockFailure(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OptimisticLockingFailureException || cause instanceof OptimisticLockException || cause instanceof StaleStateException) return true;
+        }
+
+        return false;
+    }
+
+    private Counter counter(String name, String operation) {
+        // The registry keeps one counter per name and operation, so the rate can be read here and scraped outside
+        return meterRegistry.counter(name, "operation", operation);
+    }
+
+}
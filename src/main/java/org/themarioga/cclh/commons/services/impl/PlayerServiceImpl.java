@@ -18,9 +18,7 @@ import org.themarioga.cclh.commons.services.intf.PlayerService;
 import org.themarioga.cclh.commons.services.intf.UserService;
 import org.themarioga.cclh.commons.util.Assert;
 
-import java.util.Date;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 @Service
 public class PlayerServiceImpl implements PlayerService {
@@ -81,31 +79,64 @@ public class PlayerServiceImpl implements PlayerService {
 
     @Override
     @Transactional(propagation = Propagation.REQUIRED, rollbackFor = ApplicationException.class)
-    public void transferWhiteCardsFromGameDeckToPlayerHand(Player player, List<GameDeckCard> cardsToTransfer) {
+    public void transferWhiteCardsFromGameDeckToPlayerHand(Player player, List<Card> cardsToTransfer) {
         logger.debug("Transferring white cards from deck to hand from player {}", player);
 
-        for (GameDeckCard gameDeckCard : cardsToTransfer) {
+        for (Card card : cardsToTransfer) {
             PlayerHandCard playerHandCard = new PlayerHandCard();
             playerHandCard.setPlayer(player);
-            playerHandCard.setCard(gameDeckCard.getCard());
+            playerHandCard.setCard(card);
 
-            player.getHand().add(playerHandCard);
+            player.addHandCard(playerHandCard);
         }
 
         playerDao.update(player);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.REQUIRED, rollbackFor = ApplicationException.class)
+    public void transferWhiteCardsFromGameDeckToPlayerHands(Map<Player, Integer> missingCardsByPlayer, List<Card> cardsToTransfer) {
+        logger.debug("Transferring {} white cards from deck to the hands of {} players", cardsToTransfer.size(), missingCardsByPlayer.size());
+
+        List<PlayerHandCard> playerHandCards = new ArrayList<>(cardsToTransfer.size());
+        Map<Player, Integer> pendingCardsByPlayer = new LinkedHashMap<>(missingCardsByPlayer);
+        Iterator<Card> deckIterator = cardsToTransfer.iterator();
+
+        // Deal one card to each player in turn so a short deck is spread evenly
+        while (deckIterator.hasNext() && !pendingCardsByPlayer.isEmpty()) {
+            Iterator<Map.Entry<Player, Integer>> playerIterator = pendingCardsByPlayer.entrySet().iterator();
+            while (playerIterator.hasNext() && deckIterator.hasNext()) {
+                Map.Entry<Player, Integer> pendingCards = playerIterator.next();
+
+                PlayerHandCard playerHandCard = new PlayerHandCard();
+                playerHandCard.setPlayer(pendingCards.getKey());
+                playerHandCard.setCard(deckIterator.next());
+
+                pendingCards.getKey().addHandCard(playerHandCard);
+                playerHandCards.add(playerHandCard);
+
+                if (pendingCards.getValue() > 1) {
+                    pendingCards.setValue(pendingCards.getValue() - 1);
+                } else {
+                    playerIterator.remove();
+                }
+            }
+        }
+
+        playerDao.createHandCards(playerHandCards);
+    }
+
     @Override
     @Transactional(propagation = Propagation.REQUIRED, rollbackFor = ApplicationException.class)
     public void removeCardFromHand(Player player, Card card) {
         logger.debug("Removing card {} from the hand of the player {}", card, player);
 
-        Optional<PlayerHandCard> cards = player.getHand().stream().filter(playerHandCard -> playerHandCard.getCard().getId().equals(card.getId())).findFirst();
+        PlayerHandCard playerHandCard = player.getHandCardByCardId(card.getId());
 
-        if (cards.isEmpty())
+        if (playerHandCard == null)
             throw new PlayerCannotPlayCardException();
 
-        player.getHand().remove(cards.get());
+        player.removeHandCard(playerHandCard);
         playerDao.update(player);
     }
 
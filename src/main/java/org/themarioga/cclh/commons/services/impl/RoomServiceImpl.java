@@ -3,6 +3,7 @@ package org.themarioga.cclh.commons.services.impl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +18,7 @@ import org.themarioga.cclh.commons.util.Assert;
 
 import java.util.Date;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 public class RoomServiceImpl implements RoomService {
@@ -24,10 +26,12 @@ public class RoomServiceImpl implements RoomService {
     private final Logger logger = LoggerFactory.getLogger(RoomServiceImpl.class);
 
     private final RoomDao roomDao;
+    private final int pageSize;
 
     @Autowired
-    public RoomServiceImpl(RoomDao roomDao) {
+    public RoomServiceImpl(RoomDao roomDao, @Value("${cclh.jpa.page-size:500}") int pageSize) {
         this.roomDao = roomDao;
+        this.pageSize = pageSize;
     }
 
     @Override
@@ -95,4 +99,12 @@ public class RoomServiceImpl implements RoomService {
         return roomDao.findAll();
     }
 
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public void forEachRoom(Consumer<Room> action) {
+        logger.debug("Iterating all rooms in pages of {}", pageSize);
+
+        roomDao.forEachPage(pageSize, page -> page.forEach(action));
+    }
+
 }
@@ -10,6 +10,9 @@ import org.themarioga.cclh.commons.dao.intf.TableDao;
 import org.themarioga.cclh.commons.enums.ErrorEnum;
 import org.themarioga.cclh.commons.enums.GameTypeEnum;
 import org.themarioga.cclh.commons.enums.TableStatusEnum;
+import org.themarioga.cclh.commons.events.CardPlayedEvent;
+import org.themarioga.cclh.commons.events.RoundEndedEvent;
+import org.themarioga.cclh.commons.events.VotingStartedEvent;
 import org.themarioga.cclh.commons.exceptions.ApplicationException;
 import org.themarioga.cclh.commons.exceptions.card.CardAlreadyPlayedException;
 import org.themarioga.cclh.commons.exceptions.card.CardNotPlayedException;
@@ -18,6 +21,7 @@ import org.themarioga.cclh.commons.exceptions.player.PlayerAlreadyVotedCardExcep
 import org.themarioga.cclh.commons.exceptions.player.PlayerCannotVoteCardException;
 import org.themarioga.cclh.commons.exceptions.table.TableWrongStatusException;
 import org.themarioga.cclh.commons.models.*;
+import org.themarioga.cclh.commons.services.intf.GameEventBus;
 import org.themarioga.cclh.commons.services.intf.PlayerService;
 import org.themarioga.cclh.commons.services.intf.TableService;
 import org.themarioga.cclh.commons.util.Assert;
@@ -29,11 +33,13 @@ public class TableServiceImpl implements TableService {
 
     private final TableDao tableDao;
     private final PlayerService playerService;
+    private final GameEventBus gameEventBus;
 
     @Autowired
-    public TableServiceImpl(TableDao tableDao, PlayerService playerService) {
+    public TableServiceImpl(TableDao tableDao, PlayerService playerService, GameEventBus gameEventBus) {
         this.tableDao = tableDao;
         this.playerService = playerService;
+        this.gameEventBus = gameEventBus;
     }
 
     @Override
@@ -73,6 +79,10 @@ public class TableServiceImpl implements TableService {
         // Set Status
         table.setStatus(newStatus);
 
+        if (newStatus == TableStatusEnum.VOTING) {
+            gameEventBus.publish(new VotingStartedEvent(game.getId(), game.getRoom().getId(), table.getCurrentRoundNumber()));
+        }
+
         return tableDao.update(table);
     }
 
@@ -122,12 +132,14 @@ public class TableServiceImpl implements TableService {
         if (table.getStatus() != TableStatusEnum.ENDING)
             throw new TableWrongStatusException();
 
+        // Empty table with one statement per card type, the round cards are not loaded
+        table = tableDao.deleteRoundCards(table);
+        game.setTable(table);
+
         // Set the table mode to play
         table.setStatus(TableStatusEnum.STARTING);
 
-        // Empty table
-        table.getVotedCards().clear();
-        table.getPlayedCards().clear();
+        gameEventBus.publish(new RoundEndedEvent(game.getId(), game.getRoom().getId(), table.getCurrentRoundNumber()));
 
         return tableDao.update(table);
     }
@@ -149,11 +161,11 @@ public class TableServiceImpl implements TableService {
             throw new TableWrongStatusException();
 
         // Check if the player already played
-        if (table.getPlayedCards().stream().anyMatch(playedCard -> playedCard.getPlayer().getId().equals(player.getId())))
+        if (table.getPlayedCardByPlayerId(player.getId()) != null)
             throw new PlayerAlreadyPlayedCardException();
 
         // Check if the card was already played
-        if (table.getPlayedCards().stream().anyMatch(playedCard -> playedCard.getCard().getId().equals(card.getId())))
+        if (table.getPlayedCardByCardId(card.getId()) != null)
             throw new CardAlreadyPlayedException();
 
         // Remove the card from the player hand
@@ -164,7 +176,12 @@ public class TableServiceImpl implements TableService {
         playedCard.setTable(table);
         playedCard.setPlayer(player);
         playedCard.setCard(card);
-        table.getPlayedCards().add(playedCard);
+        table.addPlayedCard(playedCard);
+
+        // Concurrent plays on the same table conflict on its version
+        tableDao.incrementVersion(table);
+
+        gameEventBus.publish(new CardPlayedEvent(game.getId(), game.getRoom().getId(), table.getCurrentRoundNumber(), player.getUser().getId(), card.getId()));
 
         return tableDao.update(table);
     }
@@ -190,19 +207,26 @@ public class TableServiceImpl implements TableService {
             throw new PlayerCannotVoteCardException();
 
         // Check if the player already voted
-        if (table.getVotedCards().stream().anyMatch(votedCard -> votedCard.getPlayer().getId().equals(player.getId())))
+        if (table.getVotedCardByPlayerId(player.getId()) != null)
             throw new PlayerAlreadyVotedCardException();
 
         // Check if the card have been played this round
-        if (table.getPlayedCards().stream().noneMatch(playedCard -> playedCard.getCard().getId().equals(card.getId())))
+        PlayedCard playedCard = table.getPlayedCardByCardId(card.getId());
+        if (playedCard == null)
             throw new CardNotPlayedException();
 
+        // Count the vote
+        playedCard.setVotes(playedCard.getVotes() + 1);
+
         // Set the player vote
         VotedCard votedCard = new VotedCard();
         votedCard.setTable(table);
         votedCard.setPlayer(player);
         votedCard.setCard(card);
-        table.getVotedCards().add(votedCard);
+        table.addVotedCard(votedCard);
+
+        // Concurrent votes on the same table conflict on its version
+        tableDao.incrementVersion(table);
 
         return tableDao.update(table);
     }
@@ -220,7 +244,21 @@ public class TableServiceImpl implements TableService {
     public PlayedCard getMostVotedCard(long gameId) {
         logger.debug("Getting most voted card of the table of the game {}", gameId);
 
-        return tableDao.getMostVotedCard(gameId);
+        Table table = tableDao.findOne(gameId);
+        if (table == null) return null;
+
+        // Most votes wins, ties go to the lowest card id
+        PlayedCard mostVotedCard = null;
+        for (PlayedCard playedCard : table.getPlayedCards()) {
+            if (playedCard.getVotes() == 0) continue;
+
+            if (mostVotedCard == null || playedCard.getVotes() > mostVotedCard.getVotes()
+                    || (playedCard.getVotes().equals(mostVotedCard.getVotes()) && playedCard.getCard().getId() < mostVotedCard.getCard().getId())) {
+                mostVotedCard = playedCard;
+            }
+        }
+
+        return mostVotedCard;
     }
 
     @Override
@@ -229,7 +267,7 @@ public class TableServiceImpl implements TableService {
         int cardsNeededToVote = game.getPlayers().size();
         if (game.getType() == GameTypeEnum.DICTATORSHIP || game.getType() == GameTypeEnum.CLASSIC) cardsNeededToVote--;
 
-        return tableDao.countPlayedCards(game) == cardsNeededToVote;
+        return game.getTable().getPlayedCardsCount() == cardsNeededToVote;
     }
 
     @Override
@@ -238,7 +276,7 @@ public class TableServiceImpl implements TableService {
         int votesNeededToEnd = game.getPlayers().size();
         if (game.getType() == GameTypeEnum.DICTATORSHIP || game.getType() == GameTypeEnum.CLASSIC) votesNeededToEnd = 1;
 
-        return tableDao.countVotedCards(game) == votesNeededToEnd;
+        return game.getTable().getVotedCardsCount() == votesNeededToEnd;
     }
 
     private void selectPlayerForRoundPresident(Game game) {
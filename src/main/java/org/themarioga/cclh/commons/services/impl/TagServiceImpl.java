@@ -0,0 +1,100 @@
+package org.themarioga.cclh.commons.services.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.themarioga.cclh.commons.dao.intf.TagDao;
+import org.themarioga.cclh.commons.exceptions.ApplicationException;
+import org.themarioga.cclh.commons.models.Lang;
+import org.themarioga.cclh.commons.services.intf.LanguageService;
+import org.themarioga.cclh.commons.services.intf.TagService;
+
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+@Service
+public class TagServiceImpl implements TagService {
+
+    private final Logger logger = LoggerFactory.getLogger(TagServiceImpl.class);
+
+    private final TagDao tagDao;
+    private final LanguageService languageService;
+
+    private volatile Map<String, Map<String, MessageFormat>> templatesByLang = Map.of();
+
+    @Autowired
+    public TagServiceImpl(TagDao tagDao, LanguageService languageService) {
+        this.tagDao = tagDao;
+        this.languageService = languageService;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public String getTagText(String tag, Lang lang, Object... args) {
+        MessageFormat template = getTemplates(lang).get(tag);
+        if (template == null) {
+            logger.warn("Tag {} not found for language {}", tag, lang.getId());
+
+            return null;
+        }
+
+        // MessageFormat is not thread safe, format on a copy of the compiled template
+        return ((MessageFormat) template.clone()).format(args);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public void reload() {
+        logger.debug("Clearing tag templates");
+
+        synchronized (this) {
+            templatesByLang = Map.of();
+        }
+    }
+
+    private Map<String, MessageFormat> getTemplates(Lang lang) {
+        Map<String, MessageFormat> templates = templatesByLang.get(lang.getId());
+        if (templates != null) return templates;
+
+        synchronized (this) {
+            templates = templatesByLang.get(lang.getId());
+            if (templates == null) {
+                templates = loadTemplates(lang);
+
+                Map<String, Map<String, MessageFormat>> newTemplatesByLang = new HashMap<>(templatesByLang);
+                newTemplatesByLang.put(lang.getId(), templates);
+                templatesByLang = Map.copyOf(newTemplatesByLang);
+            }
+        }
+
+        return templates;
+    }
+
+    private Map<String, MessageFormat> loadTemplates(Lang lang) {
+        logger.debug("Loading tag templates for language {}", lang.getId());
+
+        Map<String, String> texts = new HashMap<>();
+
+        // Tags missing in the language fall back to the default language
+        Lang defaultLanguage = languageService.getDefaultLanguage();
+        if (defaultLanguage != null && !defaultLanguage.getId().equals(lang.getId())) {
+            texts.putAll(tagDao.getTagTextsByLang(defaultLanguage));
+        }
+
+        texts.putAll(tagDao.getTagTextsByLang(lang));
+
+        Locale locale = Locale.forLanguageTag(lang.getId());
+        Map<String, MessageFormat> templates = new HashMap<>();
+        for (Map.Entry<String, String> text : texts.entrySet()) {
+            templates.put(text.getKey(), new MessageFormat(text.getValue(), locale));
+        }
+
+        return Map.copyOf(templates);
+    }
+
+}
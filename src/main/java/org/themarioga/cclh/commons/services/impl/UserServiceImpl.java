@@ -5,6 +5,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.themarioga.cclh.commons.dao.intf.UserDao;
 import org.themarioga.cclh.commons.enums.ErrorEnum;
@@ -21,6 +22,7 @@ import org.themarioga.cclh.commons.util.Assert;
 
 import java.util.Date;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 public class UserServiceImpl implements UserService {
@@ -28,10 +30,12 @@ public class UserServiceImpl implements UserService {
     private final Logger logger = LoggerFactory.getLogger(UserServiceImpl.class);
 
     private final UserDao userDao;
+    private final int pageSize;
 
     @Autowired
-    public UserServiceImpl(UserDao userDao) {
+    public UserServiceImpl(UserDao userDao, @Value("${cclh.jpa.page-size:500}") int pageSize) {
         this.userDao = userDao;
+        this.pageSize = pageSize;
     }
 
     @Override
@@ -116,6 +120,8 @@ public class UserServiceImpl implements UserService {
     public User getByUsername(String username) {
         logger.debug("Getting user with username: {}", username);
 
+        Assert.assertNotEmpty(username, ErrorEnum.USER_NAME_EMPTY);
+
         User user = userDao.getByUsername(username);
         if (user == null) {
             logger.error("Error getting user with username {}: Doesn't exists.", username);
@@ -125,6 +131,16 @@ public class UserServiceImpl implements UserService {
         return user;
     }
 
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public List<User> searchByUsername(String prefix, int maxResults) {
+        logger.debug("Searching users with username starting with: {}", prefix);
+
+        Assert.assertNotEmpty(prefix, ErrorEnum.USER_NAME_EMPTY);
+
+        return userDao.findByUsernamePrefix(prefix, maxResults);
+    }
+
     @Override
     @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
     public List<User> getAllUsers() {
@@ -133,4 +149,12 @@ public class UserServiceImpl implements UserService {
         return userDao.findAll();
     }
 
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, rollbackFor = ApplicationException.class)
+    public void forEachUser(Consumer<User> action) {
+        logger.debug("Iterating all users in pages of {}", pageSize);
+
+        userDao.forEachPage(pageSize, page -> page.forEach(action));
+    }
+
 }
@@ -0,0 +1,15 @@
+package org.themarioga.cclh.commons.services.intf;
+
+import org.themarioga.cclh.commons.enums.BroadcastTargetEnum;
+
+import java.util.List;
+
+/**
+ * Delivers a broadcast to a batch of users or rooms, each bot plugs in its own messaging client
+ */
+@FunctionalInterface
+public interface BroadcastSender {
+
+    void send(BroadcastTargetEnum target, List<Long> ids);
+
+}
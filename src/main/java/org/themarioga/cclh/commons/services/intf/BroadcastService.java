@@ -0,0 +1,11 @@
+package org.themarioga.cclh.commons.services.intf;
+
+import org.themarioga.cclh.commons.models.BroadcastCheckpoint;
+
+public interface BroadcastService {
+
+    long broadcast(String broadcastId, BroadcastSender sender);
+
+    BroadcastCheckpoint getCheckpoint(String broadcastId);
+
+}
@@ -13,6 +13,8 @@ public interface CardService {
 
     Card create(Dictionary dictionary, CardTypeEnum type, String text);
 
+    List<Card> create(Dictionary dictionary, CardTypeEnum type, List<String> texts);
+
     void changeText(Card card, String newText);
 
     void delete(Card card);
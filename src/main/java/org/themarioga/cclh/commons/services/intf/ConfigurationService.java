@@ -1,7 +1,44 @@
 package org.themarioga.cclh.commons.services.intf;
 
+import org.themarioga.cclh.commons.enums.GamePunctuationTypeEnum;
+import org.themarioga.cclh.commons.enums.GameTypeEnum;
+
 public interface ConfigurationService {
 
     String getConfiguration(String key);
 
+    int getGameWhiteCardsInHand();
+
+    GameTypeEnum getGameDefaultGameType();
+
+    GamePunctuationTypeEnum getGameDefaultGamePunctuationType();
+
+    int getGameDefaultGameLength();
+
+    int getGameMinNumberOfPlayers();
+
+    int getGameMaxNumberOfPlayers();
+
+    long getGameDefaultDictionaryId();
+
+    int getDictionariesMinWhiteCards();
+
+    int getDictionariesMaxWhiteCards();
+
+    int getDictionariesMaxWhiteCardLength();
+
+    int getDictionariesMinBlackCards();
+
+    int getDictionariesMaxBlackCards();
+
+    int getDictionariesMaxBlackCardLength();
+
+    int getDictionariesMaxCollaborators();
+
+    String getDefaultLanguage();
+
+    void reload();
+
+    void refreshIfChanged();
+
 }
@@ -0,0 +1,21 @@
+package org.themarioga.cclh.commons.services.intf;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Runs the commands of a game one after another in submission order, each one in its own transaction.
+ * Commands for different rooms run in parallel. Commands that conflict with other writers are retried.
+ * A command may execute another command of its own room, which runs in place, but only submit commands of other rooms.
+ */
+public interface GameCommandExecutor {
+
+    <T> CompletableFuture<T> submit(long roomId, Supplier<T> command);
+
+    <T> CompletableFuture<T> submit(long roomId, String operation, Supplier<T> command);
+
+    <T> T execute(long roomId, Supplier<T> command);
+
+    <T> T execute(long roomId, String operation, Supplier<T> command);
+
+}
@@ -0,0 +1,21 @@
+package org.themarioga.cclh.commons.services.intf;
+
+import org.themarioga.cclh.commons.events.GameEvent;
+
+import java.util.function.Consumer;
+
+/**
+ * Delivers game events to the listeners on a background thread, in the order they were committed.
+ * Events published inside a transaction are only delivered if it commits.
+ */
+public interface GameEventBus {
+
+    void publish(GameEvent event);
+
+    <E extends GameEvent> void subscribe(Class<E> eventType, Consumer<? super E> listener);
+
+    void unsubscribe(Consumer<?> listener);
+
+    long getDroppedEventCount();
+
+}
@@ -3,6 +3,11 @@ package org.themarioga.cclh.commons.services.intf;
 import org.themarioga.cclh.commons.enums.GameTypeEnum;
 import org.themarioga.cclh.commons.models.*;
 
+/**
+ * Game operations. The ones that take a game run in the caller transaction. The ones that take a room id run
+ * one after another per game on the {@link GameCommandExecutor}, each in its own transaction and reading the game
+ * again on every attempt, so several players can act on the same game at once.
+ */
 public interface GameService {
 
     Game create(long roomId, String roomName, long creatorId);
@@ -35,6 +40,16 @@ public interface GameService {
 
     Game voteForCard(Game game, long userId, long cardId);
 
+    Game startRound(long roomId);
+
+    Game endRound(long roomId);
+
+    Game voteForDeletion(long roomId, long userId);
+
+    Game playCard(long roomId, long userId, long cardId);
+
+    Game voteForCard(long roomId, long userId, long cardId);
+
     Game getByRoom(Room room);
 
     Game getByRoomId(long roomId);
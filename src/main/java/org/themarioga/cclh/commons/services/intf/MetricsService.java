@@ -0,0 +1,7 @@
+package org.themarioga.cclh.commons.services.intf;
+
+public interface MetricsService {
+
+    void refreshStatusGauges();
+
+}
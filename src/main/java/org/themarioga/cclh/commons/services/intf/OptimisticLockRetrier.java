@@ -0,0 +1,20 @@
+package org.themarioga.cclh.commons.services.intf;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs a game mutation in its own transaction and runs it again when another transaction changed the same game.
+ * The mutation must read the game again on each attempt, as the room id operations of {@link GameService} do.
+ * Executions and conflicts are counted per operation in the meter registry.
+ */
+public interface OptimisticLockRetrier {
+
+    <T> T execute(String operation, Supplier<T> mutation);
+
+    long getExecutionCount(String operation);
+
+    long getConflictCount(String operation);
+
+    double getConflictRate(String operation);
+
+}
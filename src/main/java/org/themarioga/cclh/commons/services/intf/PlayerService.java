@@ -3,6 +3,7 @@ package org.themarioga.cclh.commons.services.intf;
 import org.themarioga.cclh.commons.models.*;
 
 import java.util.List;
+import java.util.Map;
 
 public interface PlayerService {
 
@@ -10,7 +11,9 @@ public interface PlayerService {
 
     void delete(Player player);
 
-    void transferWhiteCardsFromGameDeckToPlayerHand(Player player, List<GameDeckCard> cardsToTransfer);
+    void transferWhiteCardsFromGameDeckToPlayerHand(Player player, List<Card> cardsToTransfer);
+
+    void transferWhiteCardsFromGameDeckToPlayerHands(Map<Player, Integer> missingCardsByPlayer, List<Card> cardsToTransfer);
 
     void removeCardFromHand(Player player, Card card);
 
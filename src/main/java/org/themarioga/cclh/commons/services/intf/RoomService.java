@@ -3,6 +3,7 @@ package org.themarioga.cclh.commons.services.intf;
 import org.themarioga.cclh.commons.models.Room;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface RoomService {
 
@@ -14,4 +15,6 @@ public interface RoomService {
 
     List<Room> getAllRooms();
 
+    void forEachRoom(Consumer<Room> action);
+
 }
@@ -0,0 +1,11 @@
+package org.themarioga.cclh.commons.services.intf;
+
+import org.themarioga.cclh.commons.models.Lang;
+
+public interface TagService {
+
+    String getTagText(String tag, Lang lang, Object... args);
+
+    void reload();
+
+}
@@ -4,6 +4,7 @@ import org.themarioga.cclh.commons.models.Lang;
 import org.themarioga.cclh.commons.models.User;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface UserService {
 
@@ -19,6 +20,10 @@ public interface UserService {
 
     User getByUsername(String username);
 
+    List<User> searchByUsername(String prefix, int maxResults);
+
     List<User> getAllUsers();
 
+    void forEachUser(Consumer<User> action);
+
 }
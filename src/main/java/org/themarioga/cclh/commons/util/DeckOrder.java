@@ -0,0 +1,49 @@
+package org.themarioga.cclh.commons.util;
+
+public class DeckOrder {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long MIX_1 = 0xBF58476D1CE4E5B9L;
+    private static final long MIX_2 = 0x94D049BB133111EBL;
+
+    private static final long GOLDEN_GAMMA_INVERSE = inverse(GOLDEN_GAMMA);
+    private static final long MIX_1_INVERSE = inverse(MIX_1);
+    private static final long MIX_2_INVERSE = inverse(MIX_2);
+
+    private DeckOrder() {
+        // Nothing
+    }
+
+    /**
+     * Position key of a card in a deck shuffled with the given seed. Cards are drawn in ascending key order.
+     * The mix is a bijection on the card id, so two cards of the same deck never share a key.
+     */
+    public static long key(long seed, long cardId) {
+        long z = seed + cardId * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * MIX_1;
+        z = (z ^ (z >>> 27)) * MIX_2;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Card id for a position key, the inverse of {@link #key(long, long)}.
+     */
+    public static long cardId(long seed, long key) {
+        long z = key ^ (key >>> 31) ^ (key >>> 62);
+        z *= MIX_2_INVERSE;
+        z = z ^ (z >>> 27) ^ (z >>> 54);
+        z *= MIX_1_INVERSE;
+        z = z ^ (z >>> 30) ^ (z >>> 60);
+        return (z - seed) * GOLDEN_GAMMA_INVERSE;
+    }
+
+    private static long inverse(long odd) {
+        // Newton iteration, every step doubles the number of correct low bits
+        long inverse = odd;
+        for (int i = 0; i < 5; i++) {
+            inverse *= 2 - odd * inverse;
+        }
+        return inverse;
+    }
+
+}
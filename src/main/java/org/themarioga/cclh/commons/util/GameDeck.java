@@ -0,0 +1,81 @@
+package org.themarioga.cclh.commons.util;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * In memory game deck of one card type, its shuffled card ids with a draw cursor.
+ * It is rebuilt from the game seed and the cursor of the type, see {@link DeckOrder}.
+ */
+public class GameDeck {
+
+    private final long seed;
+    private final long[] cardIds;
+    private int position;
+
+    /**
+     * Shuffles a copy of the card ids with the seed and moves the draw position past the cursor.
+     */
+    public GameDeck(long seed, long[] cardIds, Long cursor) {
+        this.seed = seed;
+
+        long[] keys = new long[cardIds.length];
+        for (int i = 0; i < cardIds.length; i++) {
+            keys[i] = DeckOrder.key(seed, cardIds[i]);
+        }
+        Arrays.sort(keys);
+
+        // The cursor card may have been deleted since, so look for where it would be
+        if (cursor != null) {
+            int index = Arrays.binarySearch(keys, cursor);
+            this.position = index >= 0 ? index + 1 : -index - 1;
+        }
+
+        // Keys map back to their card, so the sorted keys become the shuffled ids in place
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = DeckOrder.cardId(seed, keys[i]);
+        }
+        this.cardIds = keys;
+    }
+
+    public int remaining() {
+        return cardIds.length - position;
+    }
+
+    public long draw() {
+        if (position >= cardIds.length) throw new IllegalStateException("The deck is empty");
+
+        return cardIds[position++];
+    }
+
+    public long[] draw(int cardNumber) {
+        int drawn = Math.min(cardNumber, remaining());
+        long[] drawnCardIds = Arrays.copyOfRange(cardIds, position, position + drawn);
+        position += drawn;
+        return drawnCardIds;
+    }
+
+    /**
+     * Draws like {@link #draw(int)}, passing over the cards that are still in play. They are only found ahead of
+     * the cursor for games started before the deck was ordered by the seed.
+     */
+    public long[] draw(int cardNumber, Set<Long> cardIdsInPlay) {
+        long[] drawnCardIds = new long[Math.min(cardNumber, remaining())];
+        int drawn = 0;
+        while (drawn < drawnCardIds.length && position < cardIds.length) {
+            long cardId = cardIds[position++];
+            if (!cardIdsInPlay.contains(cardId)) {
+                drawnCardIds[drawn++] = cardId;
+            }
+        }
+        return drawn == drawnCardIds.length ? drawnCardIds : Arrays.copyOf(drawnCardIds, drawn);
+    }
+
+    /**
+     * Key of the last drawn card, or null if nothing was drawn yet.
+     */
+    public Long getCursor() {
+        return position == 0 ? null : DeckOrder.key(seed, cardIds[position - 1]);
+    }
+
+}
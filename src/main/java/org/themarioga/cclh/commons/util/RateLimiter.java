@@ -0,0 +1,45 @@
+package org.themarioga.cclh.commons.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Spaces out permits at a fixed rate without saving unused time for bursts,
+ * so any window holds at most the rate plus the permits of a single acquire.
+ */
+public class RateLimiter {
+
+    private final double nanosPerPermit;
+    private final LongSupplier nanoClock;
+
+    private long nextFreeNanos;
+
+    public RateLimiter(double permitsPerSecond) {
+        this(permitsPerSecond, System::nanoTime);
+    }
+
+    RateLimiter(double permitsPerSecond, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0) throw new IllegalArgumentException("Rate must be positive");
+
+        this.nanosPerPermit = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+        this.nanoClock = nanoClock;
+        this.nextFreeNanos = nanoClock.getAsLong();
+    }
+
+    public void acquire(int permits) throws InterruptedException {
+        long waitNanos = reserve(permits);
+        if (waitNanos > 0) TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+
+    /**
+     * Books the permits and returns how long the caller has to wait before using them
+     */
+    synchronized long reserve(int permits) {
+        long now = nanoClock.getAsLong();
+        long start = Math.max(now, nextFreeNanos);
+        nextFreeNanos = start + (long) (permits * nanosPerPermit);
+
+        return start - now;
+    }
+
+}
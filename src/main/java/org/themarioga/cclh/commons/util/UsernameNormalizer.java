@@ -0,0 +1,33 @@
+package org.themarioga.cclh.commons.util;
+
+import java.util.Locale;
+
+public class UsernameNormalizer {
+
+    private UsernameNormalizer() {
+        // Nothing
+    }
+
+    /**
+     * Trims the name, drops the leading @ and lower cases it, as the username column of t_user stores it
+     */
+    public static String normalize(String name) {
+        if (name == null) return null;
+
+        String username = name.trim();
+        int start = 0;
+        while (start < username.length() && username.charAt(start) == '@') start++;
+        username = username.substring(start).toLowerCase(Locale.ROOT);
+
+        return username.isEmpty() ? null : username;
+    }
+
+    /**
+     * Escapes the LIKE wildcards of a prefix with !, _ is valid in Telegram usernames.
+     * A backslash is avoided as escape character because MariaDB also reads it as a string literal escape
+     */
+    public static String escapeLike(String prefix) {
+        return prefix.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+}
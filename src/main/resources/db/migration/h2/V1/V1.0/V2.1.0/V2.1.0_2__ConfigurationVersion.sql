@@ -0,0 +1,3 @@
+-- v2.1.0_2 - Configuration version
+
+INSERT INTO t_configuration VALUES ('configuration_version', '1');
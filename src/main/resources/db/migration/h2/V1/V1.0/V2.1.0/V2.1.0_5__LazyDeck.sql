@@ -0,0 +1,18 @@
+-- v2.1.0_5 - Lazy deck
+
+-- The deck is the dictionary up to deck_card_limit, ordered by the seed. Each card type keeps the key of its last drawn card
+ALTER TABLE t_game ADD deck_card_limit BIGINT;
+ALTER TABLE t_game ADD black_deck_cursor BIGINT;
+ALTER TABLE t_game ADD white_deck_cursor BIGINT;
+
+-- Games started before the seed existed get one, the shuffled order of the old deck table cannot be kept
+UPDATE t_game SET deck_seed = FLOOR(RAND() * 9007199254740991) WHERE deck_seed IS NULL AND status = 1;
+
+-- Games already started draw from the top of the lazy deck, skipping the cards their players hold and the black card
+-- on the table. Cards discarded before the migration may come back
+UPDATE t_game SET deck_card_limit = (SELECT MAX(c.id) FROM t_card c WHERE c.dictionary_id = t_game.dictionary_id) WHERE deck_seed IS NOT NULL;
+
+ALTER TABLE t_game DROP COLUMN black_deck_position;
+ALTER TABLE t_game DROP COLUMN white_deck_position;
+
+DROP TABLE IF EXISTS t_game_deck;
@@ -0,0 +1,5 @@
+-- v2.1.0_6 - Game version
+
+-- Games and tables are updated with optimistic locking
+ALTER TABLE t_game ADD version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE t_table ADD version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,12 @@
+-- v2.1.0_8 - User username
+
+-- Normalised name (trimmed, without the leading @ and in lower case) for exact lookups through an index
+ALTER TABLE t_user ADD username VARCHAR(256);
+
+UPDATE t_user SET username = NULLIF(LOWER(TRIM(LEADING '@' FROM TRIM(name))), '');
+
+-- Not unique, names are display names that several users may share
+CREATE INDEX t_user_username_index ON t_user (username);
+
+-- Only served the old substring search
+DROP INDEX IF EXISTS t_user_name_index;
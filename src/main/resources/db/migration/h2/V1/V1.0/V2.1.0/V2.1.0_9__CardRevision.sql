@@ -0,0 +1,14 @@
+-- v2.1.0_9 - Card revision
+
+-- Cards are numbered per dictionary in creation order, pooled ids only follow it within one instance. A game deck is
+-- the dictionary up to the card revision it had when the game started
+ALTER TABLE t_dictionary ADD card_revision BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE t_card ADD revision BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE t_game ADD deck_card_revision BIGINT;
+
+-- Existing cards take their id, so games already started keep the cards of their deck
+UPDATE t_card SET revision = id;
+UPDATE t_dictionary SET card_revision = COALESCE((SELECT MAX(c.revision) FROM t_card c WHERE c.dictionary_id = t_dictionary.id), 0);
+UPDATE t_game SET deck_card_revision = deck_card_limit;
+
+ALTER TABLE t_game DROP COLUMN deck_card_limit;
@@ -0,0 +1,14 @@
+-- v2.1.0_1 - Shuffled deck
+
+-- Game deck seed and draw positions, nullable as games are created before they have a deck
+ALTER TABLE t_game ADD deck_seed BIGINT;
+ALTER TABLE t_game ADD black_deck_position INT DEFAULT 0;
+ALTER TABLE t_game ADD white_deck_position INT DEFAULT 0;
+
+-- Deck card type and shuffled position
+ALTER TABLE t_game_deck ADD type TINYINT NOT NULL DEFAULT 0;
+ALTER TABLE t_game_deck ADD position INT NOT NULL DEFAULT 0;
+
+UPDATE t_game_deck SET type = (SELECT c.type FROM t_card c WHERE c.id = t_game_deck.card_id), position = FLOOR(RAND() * 2147483647);
+
+CREATE INDEX game_deck_draw_idx ON t_game_deck (game_id, type, position);
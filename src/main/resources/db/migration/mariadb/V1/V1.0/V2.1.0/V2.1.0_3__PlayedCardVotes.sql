@@ -0,0 +1,6 @@
+-- v2.1.0_3 - Played card votes
+
+-- Vote counter for each played card
+ALTER TABLE t_table_playedcards ADD votes INT NOT NULL DEFAULT 0;
+
+UPDATE t_table_playedcards p SET votes = (SELECT COUNT(*) FROM t_table_playervotes v WHERE v.game_id = p.game_id AND v.card_id = p.card_id);
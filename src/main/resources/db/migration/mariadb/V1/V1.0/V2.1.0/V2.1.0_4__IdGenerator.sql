@@ -0,0 +1,15 @@
+-- v2.1.0_4 - Id generator
+
+-- Pooled id blocks for game, player, card and dictionary (allocation size 50)
+CREATE TABLE IF NOT EXISTS t_id_generator
+(
+    name     VARCHAR(64) NOT NULL,
+    next_val BIGINT      NOT NULL,
+    PRIMARY KEY (name)
+);
+
+-- Each block starts after the highest id already in use
+INSERT INTO t_id_generator (name, next_val) SELECT 'game', COALESCE(MAX(id), 0) + 50 FROM t_game;
+INSERT INTO t_id_generator (name, next_val) SELECT 'player', COALESCE(MAX(id), 0) + 50 FROM t_player;
+INSERT INTO t_id_generator (name, next_val) SELECT 'card', COALESCE(MAX(id), 0) + 50 FROM t_card;
+INSERT INTO t_id_generator (name, next_val) SELECT 'dictionary', COALESCE(MAX(id), 0) + 50 FROM t_dictionary;
@@ -0,0 +1,13 @@
+-- v2.1.0_7 - Broadcast checkpoint
+
+-- Progress of every broadcast, an interrupted one resumes after the last batch sent
+CREATE TABLE IF NOT EXISTS t_broadcast_checkpoint
+(
+    id          VARCHAR(64) NOT NULL,
+    target      INT         NOT NULL,
+    last_id     BIGINT,
+    sent        BIGINT      NOT NULL,
+    completed   BOOLEAN     NOT NULL,
+    last_update DATETIME    NOT NULL,
+    PRIMARY KEY (id)
+);
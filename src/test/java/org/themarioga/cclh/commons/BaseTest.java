@@ -39,4 +39,11 @@ public class BaseTest {
         return entityManager.unwrap(Session.class);
     }
 
+    protected void assertStatements(int maxSelects, int maxInserts, int maxUpdates, int maxDeletes) {
+        // Pending changes are part of the operation
+        getCurrentSession().flush();
+
+        SqlStatementCounter.assertAtMost(maxSelects, maxInserts, maxUpdates, maxDeletes);
+    }
+
 }
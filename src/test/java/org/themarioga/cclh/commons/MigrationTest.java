@@ -0,0 +1,131 @@
+package org.themarioga.cclh.commons;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+/**
+ * Runs the Flyway migrations of each dialect on H2, the MariaDB ones in MariaDB mode as the benchmarks do,
+ * with rows written as the code of an older version wrote them.
+ */
+class MigrationTest {
+
+    private static final long GAME_ID = 1L;
+    private static final int STARTED = 1;
+
+    @Test
+    void testShuffledDeck_GameWithoutPositions_H2() {
+        testShuffledDeck_GameWithoutPositions("h2", "");
+    }
+
+    @Test
+    void testShuffledDeck_GameWithoutPositions_MariaDB() {
+        testShuffledDeck_GameWithoutPositions("mariadb", ";MODE=MariaDB");
+    }
+
+    private void testShuffledDeck_GameWithoutPositions(String dialect, String mode) {
+        DataSource dataSource = dataSource(mode);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        migrate(dialect, dataSource, "2.1.0.1");
+        insertDictionary(jdbcTemplate);
+
+        // Games were created with null positions, they are only set when the game starts
+        jdbcTemplate.update("INSERT INTO t_game (id, room_id, creator_id, status, type, punctuation_type, dictionary_id, n_cards_to_win, n_of_rounds, n_players, deck_seed, black_deck_position, white_deck_position) VALUES (?, -1, 1, 0, 0, 0, 1, 5, 5, 9, NULL, NULL, NULL)", GAME_ID);
+
+        migrate(dialect, dataSource, "latest");
+
+        Assertions.assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM t_game", Integer.class));
+    }
+
+    @Test
+    void testLazyDeck_StartedGames_H2() {
+        testLazyDeck_StartedGames("h2", "");
+    }
+
+    @Test
+    void testLazyDeck_StartedGames_MariaDB() {
+        testLazyDeck_StartedGames("mariadb", ";MODE=MariaDB");
+    }
+
+    private void testLazyDeck_StartedGames(String dialect, String mode) {
+        DataSource dataSource = dataSource(mode);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        migrate(dialect, dataSource, "2.1.0.4");
+        insertDictionary(jdbcTemplate);
+        jdbcTemplate.update("INSERT INTO t_user (id, name, active) VALUES (2, 'Second', true)");
+        jdbcTemplate.update("INSERT INTO t_room (id, name, active) VALUES (-2, 'Other room', true)");
+
+        // One game started with a seed and deck positions, another one started before the seed existed
+        jdbcTemplate.update("INSERT INTO t_game (id, room_id, creator_id, status, type, punctuation_type, dictionary_id, n_cards_to_win, n_of_rounds, n_players, deck_seed, black_deck_position, white_deck_position) VALUES (?, -1, 1, ?, 0, 0, 1, 5, 5, 9, 42, 1, 3)", GAME_ID, STARTED);
+        jdbcTemplate.update("INSERT INTO t_game (id, room_id, creator_id, status, type, punctuation_type, dictionary_id, n_cards_to_win, n_of_rounds, n_players, deck_seed, black_deck_position, white_deck_position) VALUES (?, -2, 2, ?, 0, 0, 1, 5, 5, 9, NULL, NULL, NULL)", GAME_ID + 1, STARTED);
+        for (long gameId = GAME_ID; gameId <= GAME_ID + 1; gameId++) {
+            jdbcTemplate.update("INSERT INTO t_player (id, user_id, game_id, join_order) VALUES (?, ?, ?, 0)", gameId, gameId, gameId);
+            jdbcTemplate.update("INSERT INTO t_table (game_id, status, round_number, blackcard_id) VALUES (?, 1, 1, 1)", gameId);
+            for (long cardId = 5; cardId <= 7; cardId++) {
+                jdbcTemplate.update("INSERT INTO t_player_hand (player_id, card_id) VALUES (?, ?)", gameId, cardId);
+            }
+            for (long cardId = 8; cardId <= 20; cardId++) {
+                jdbcTemplate.update("INSERT INTO t_game_deck (game_id, card_id, type, position) VALUES (?, ?, 1, ?)", gameId, cardId, cardId);
+            }
+        }
+
+        migrate(dialect, dataSource, "latest");
+
+        // Both draw from the whole dictionary as it is now, the hands and the table keep their cards
+        Assertions.assertEquals(42L, jdbcTemplate.queryForObject("SELECT deck_seed FROM t_game WHERE id = ?", Long.class, GAME_ID));
+        Assertions.assertNotNull(jdbcTemplate.queryForObject("SELECT deck_seed FROM t_game WHERE id = ?", Long.class, GAME_ID + 1));
+        Assertions.assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM t_game WHERE deck_card_revision = 20", Integer.class));
+        Assertions.assertEquals(20L, jdbcTemplate.queryForObject("SELECT card_revision FROM t_dictionary WHERE id = 1", Long.class));
+        Assertions.assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM t_card WHERE revision <> id", Integer.class));
+        Assertions.assertEquals(6, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM t_player_hand", Integer.class));
+        Assertions.assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM t_table WHERE blackcard_id = 1", Integer.class));
+    }
+
+    @Test
+    void testUserUsername_SharedName_H2() {
+        testUserUsername_SharedName("h2", "");
+    }
+
+    @Test
+    void testUserUsername_SharedName_MariaDB() {
+        testUserUsername_SharedName("mariadb", ";MODE=MariaDB");
+    }
+
+    private void testUserUsername_SharedName(String dialect, String mode) {
+        DataSource dataSource = dataSource(mode);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        migrate(dialect, dataSource, "2.1.0.7");
+
+        // Names are display names, two users may have the same one
+        jdbcTemplate.update("INSERT INTO t_user (id, name, active) VALUES (1, 'Mario', true), (2, '@mario', true)");
+
+        migrate(dialect, dataSource, "latest");
+
+        Assertions.assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM t_user WHERE username = 'mario'", Integer.class));
+    }
+
+    private static DataSource dataSource(String mode) {
+        return new DriverManagerDataSource("jdbc:h2:mem:migration-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1" + mode, "sa", "");
+    }
+
+    private static void migrate(String dialect, DataSource dataSource, String target) {
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration/" + dialect).target(target).load().migrate();
+    }
+
+    private static void insertDictionary(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO t_user (id, name, active) VALUES (1, 'First', true)");
+        jdbcTemplate.update("INSERT INTO t_room (id, name, active) VALUES (-1, 'Room', true)");
+        jdbcTemplate.update("INSERT INTO t_dictionary (id, name, creator_id, published, shared) VALUES (1, 'Dictionary', 1, true, true)");
+
+        // Cards 1 to 4 are black and 5 to 20 white
+        for (long cardId = 1; cardId <= 20; cardId++) {
+            jdbcTemplate.update("INSERT INTO t_card (id, text, type, dictionary_id) VALUES (?, ?, ?, 1)", cardId, "Card " + cardId, cardId <= 4 ? 0 : 1);
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+package org.themarioga.cclh.commons;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread, so tests can declare a statement budget per operation
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    // Per thread, so scheduled jobs and executor threads do not count against the test
+    private static final ThreadLocal<List<String>> statements = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        statements.get().add(sql);
+
+        return sql;
+    }
+
+    public static void reset() {
+        statements.get().clear();
+    }
+
+    public static int count(String type) {
+        int count = 0;
+        for (String sql : statements.get()) {
+            if (sql.stripLeading().toLowerCase(Locale.ROOT).startsWith(type)) count++;
+        }
+
+        return count;
+    }
+
+    public static void assertAtMost(int maxSelects, int maxInserts, int maxUpdates, int maxDeletes) {
+        int selects = count("select");
+        int inserts = count("insert");
+        int updates = count("update");
+        int deletes = count("delete");
+
+        if (selects > maxSelects || inserts > maxInserts || updates > maxUpdates || deletes > maxDeletes) {
+            Assertions.fail(String.format("Statement budget exceeded: %d/%d selects, %d/%d inserts, %d/%d updates, %d/%d deletes%n%s",
+                    selects, maxSelects, inserts, maxInserts, updates, maxUpdates, deletes, maxDeletes, String.join(System.lineSeparator(), statements.get())));
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+package org.themarioga.cclh.commons.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+class MetricsAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner().withConfiguration(AutoConfigurations.of(MetricsAutoConfiguration.class));
+
+    @Test
+    void testMeterRegistry_Fallback() {
+        contextRunner.run(context -> {
+            Assertions.assertInstanceOf(SimpleMeterRegistry.class, context.getBean(MeterRegistry.class));
+            Assertions.assertNotNull(context.getBean(ServiceMetricsAspect.class));
+        });
+    }
+
+    @Test
+    void testMeterRegistry_BotRegistry() {
+        MeterRegistry botRegistry = new CompositeMeterRegistry();
+
+        contextRunner.withBean(MeterRegistry.class, () -> botRegistry).run(context -> {
+            Assertions.assertSame(botRegistry, context.getBean(MeterRegistry.class));
+            Assertions.assertNotNull(context.getBean(ServiceMetricsAspect.class));
+        });
+    }
+
+}
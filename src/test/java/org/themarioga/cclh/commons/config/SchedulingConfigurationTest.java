@@ -0,0 +1,41 @@
+package org.themarioga.cclh.commons.config;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.scheduling.annotation.ScheduledAnnotationBeanPostProcessor;
+import org.themarioga.cclh.commons.services.intf.ConfigurationService;
+import org.themarioga.cclh.commons.services.intf.MetricsService;
+
+class SchedulingConfigurationTest {
+
+    private final ConfigurationService configurationService = Mockito.mock(ConfigurationService.class);
+    private final MetricsService metricsService = Mockito.mock(MetricsService.class);
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withBean(ConfigurationService.class, () -> configurationService)
+            .withBean(MetricsService.class, () -> metricsService)
+            .withUserConfiguration(SchedulingConfiguration.class)
+            .withPropertyValues("cclh.configuration.refresh-delay=10", "cclh.metrics.refresh-delay=10");
+
+    @Test
+    void testRefreshes_OwnScheduler() {
+        Mockito.doThrow(new IllegalStateException("Database down")).doNothing().when(configurationService).refreshIfChanged();
+
+        contextRunner.run(context -> {
+            // A failed refresh does not stop the next ones
+            Mockito.verify(configurationService, Mockito.timeout(5000).atLeast(2)).refreshIfChanged();
+            Mockito.verify(metricsService, Mockito.timeout(5000).atLeast(2)).refreshStatusGauges();
+
+            // Scheduled beans of the bot are left alone
+            Assertions.assertTrue(context.getBeansOfType(ScheduledAnnotationBeanPostProcessor.class).isEmpty());
+        });
+    }
+
+    @Test
+    void testRefreshes_Disabled() {
+        contextRunner.withPropertyValues("cclh.scheduling.enabled=false").run(context -> Assertions.assertTrue(context.getBeansOfType(SchedulingConfiguration.class).isEmpty()));
+    }
+
+}
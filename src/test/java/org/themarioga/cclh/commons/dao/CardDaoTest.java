@@ -37,6 +37,7 @@ class CardDaoTest extends BaseTest {
         card.setDictionary(dictionary);
 
         cardDao.create(card);
+        getCurrentSession().flush();
 
         Assertions.assertEquals(1L, card.getId());
     }
@@ -55,6 +55,7 @@ class GameDaoTest extends BaseTest {
         game.setDictionary(dictionary);
 
         gameDao.create(game);
+        getCurrentSession().flush();
 
         Assertions.assertEquals(1L, game.getId());
     }
@@ -73,6 +74,33 @@ class GameDaoTest extends BaseTest {
         Assertions.assertEquals(0L, game.getId());
     }
 
+    @Test
+    void updateGame_Managed() {
+        Game game = gameDao.findOne(0L);
+        game.setNumberOfCardsToWin(7);
+
+        Game updatedGame = gameDao.update(game);
+        getCurrentSession().flush();
+        getCurrentSession().clear();
+
+        Assertions.assertSame(game, updatedGame);
+        Assertions.assertEquals(7, gameDao.findOne(0L).getNumberOfCardsToWin());
+    }
+
+    @Test
+    void updateGame_Detached() {
+        Game game = gameDao.findOne(0L);
+        getCurrentSession().clear();
+        game.setNumberOfCardsToWin(7);
+
+        Game updatedGame = gameDao.update(game);
+        getCurrentSession().flush();
+
+        Assertions.assertNotSame(game, updatedGame);
+        Assertions.assertTrue(getCurrentSession().contains(updatedGame));
+        Assertions.assertEquals(7, updatedGame.getNumberOfCardsToWin());
+    }
+
     @Test
     void deleteGame() {
         Game game = gameDao.findOne(0L);
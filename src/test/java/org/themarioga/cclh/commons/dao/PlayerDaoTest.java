@@ -45,6 +45,7 @@ class PlayerDaoTest extends BaseTest {
         player.setJoinOrder(1);
 
         playerDao.create(player);
+        getCurrentSession().flush();
 
         Assertions.assertEquals(1L, player.getId());
     }
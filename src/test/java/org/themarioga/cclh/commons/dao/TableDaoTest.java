@@ -154,6 +154,28 @@ class TableDaoTest extends BaseTest {
         Assertions.assertEquals("First", game.getTable().getPlayedCards().get(0).getCard().getText());
     }
 
+    @Test
+    @DatabaseSetup("classpath:dbunit/dao/setup/tableplayedcards.xml")
+    void getTablePlayedCardByCardId_ListChangedDirectly() {
+        Table table = gameDao.findOne(0L).getTable();
+        Assertions.assertNotNull(table.getPlayedCardByCardId(0L));
+
+        // Same size, different card, as a merge or a caller of the getter may leave it
+        Card card = new Card();
+        card.setId(5L);
+        PlayedCard playedCard = new PlayedCard();
+        playedCard.setTable(table);
+        playedCard.setPlayer(table.getPlayedCards().get(0).getPlayer());
+        playedCard.setCard(card);
+        table.getPlayedCards().set(0, playedCard);
+
+        Assertions.assertNull(table.getPlayedCardByCardId(0L));
+        Assertions.assertSame(playedCard, table.getPlayedCardByCardId(5L));
+        Assertions.assertSame(playedCard, table.getPlayedCardByPlayerId(playedCard.getPlayer().getId()));
+
+        getCurrentSession().clear();
+    }
+
     @Test
     @ExpectedDatabase(value = "classpath:dbunit/dao/expected/table/testCreatePlayerVote-expected.xml", table = "t_table_playervotes", assertionMode = DatabaseAssertionMode.NON_STRICT_UNORDERED)
     void addTablePlayerVote() {
@@ -185,15 +207,4 @@ class TableDaoTest extends BaseTest {
         Assertions.assertEquals("First", game.getTable().getVotedCards().get(0).getCard().getText());
     }
 
-    @Test
-    @DatabaseSetup("classpath:dbunit/dao/setup/tableplayedcards.xml")
-    @DatabaseSetup("classpath:dbunit/dao/setup/tableplayervotes.xml")
-    void testGetMostVotedCard() {
-        PlayedCard mostVotedCard = tableDao.getMostVotedCard(0L);
-
-        Assertions.assertNotNull(mostVotedCard);
-        Assertions.assertEquals(0L, mostVotedCard.getTable().getGame().getId());
-        Assertions.assertEquals(0L, mostVotedCard.getCard().getId());
-    }
-
 }
@@ -7,11 +7,14 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.themarioga.cclh.commons.BaseTest;
+import org.themarioga.cclh.commons.SqlStatementCounter;
 import org.themarioga.cclh.commons.dao.intf.LanguageDao;
 import org.themarioga.cclh.commons.dao.intf.UserDao;
 import org.themarioga.cclh.commons.models.User;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 @DatabaseSetup("classpath:dbunit/dao/setup/lang.xml")
 @DatabaseSetup("classpath:dbunit/dao/setup/user.xml")
@@ -81,6 +84,23 @@ class UserDaoTest extends BaseTest {
         Assertions.assertEquals(true, users.get(0).getActive());
     }
 
+    @Test
+    void getUserByUsername() {
+        User user = userDao.getByUsername(" @FIRST");
+
+        Assertions.assertEquals(0L, user.getId());
+        Assertions.assertNull(userDao.getByUsername("Firs"));
+    }
+
+    @Test
+    void findUsersByUsernamePrefix() {
+        List<User> users = userDao.findByUsernamePrefix("@Fir", 10);
+
+        Assertions.assertEquals(List.of(0L), users.stream().map(User::getId).toList());
+        Assertions.assertTrue(userDao.findByUsernamePrefix("%", 10).isEmpty());
+        Assertions.assertTrue(userDao.findByUsernamePrefix("_irst", 10).isEmpty());
+    }
+
     @Test
     void countAllUsers() {
         long total = userDao.countAll();
@@ -88,4 +108,66 @@ class UserDaoTest extends BaseTest {
         Assertions.assertEquals(2, total);
     }
 
+    @Test
+    void countAllUsers_SingleStatement() {
+        SqlStatementCounter.reset();
+
+        userDao.countAll();
+
+        assertStatements(1, 0, 0, 0);
+        Assertions.assertEquals(1, SqlStatementCounter.count("select count("));
+    }
+
+    @Test
+    void streamAllUsers() {
+        List<Long> ids = new ArrayList<>();
+        List<Boolean> managed = new ArrayList<>();
+        List<User> users = new ArrayList<>();
+        try (Stream<User> stream = userDao.streamAll(1)) {
+            stream.forEach(user -> {
+                ids.add(user.getId());
+                managed.add(getCurrentSession().contains(user));
+                users.add(user);
+            });
+        }
+
+        Assertions.assertEquals(List.of(0L, 1L), ids.stream().sorted().toList());
+        Assertions.assertEquals(List.of(true, true), managed);
+        Assertions.assertTrue(users.stream().noneMatch(getCurrentSession()::contains));
+    }
+
+    @Test
+    void streamAllUsers_ChangesKept() {
+        try (Stream<User> stream = userDao.streamAll(1)) {
+            stream.forEach(user -> user.setActive(false));
+        }
+        getCurrentSession().clear();
+
+        Assertions.assertTrue(userDao.findAll().stream().noneMatch(User::getActive));
+    }
+
+    @Test
+    void findUsersPageAfter() {
+        List<User> firstPage = userDao.findPageAfter(null, 1);
+        List<User> secondPage = userDao.findPageAfter(firstPage.get(0).getId(), 1);
+        List<User> lastPage = userDao.findPageAfter(secondPage.get(0).getId(), 1);
+
+        Assertions.assertEquals(0L, firstPage.get(0).getId());
+        Assertions.assertEquals(1L, secondPage.get(0).getId());
+        Assertions.assertTrue(lastPage.isEmpty());
+    }
+
+    @Test
+    void forEachPageUsers() {
+        List<List<Long>> pages = new ArrayList<>();
+        List<User> users = new ArrayList<>();
+        userDao.forEachPage(1, page -> {
+            pages.add(page.stream().map(User::getId).toList());
+            users.addAll(page);
+        });
+
+        Assertions.assertEquals(List.of(List.of(0L), List.of(1L)), pages);
+        Assertions.assertTrue(users.stream().noneMatch(getCurrentSession()::contains));
+    }
+
 }
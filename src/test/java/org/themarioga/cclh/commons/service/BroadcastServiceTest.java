@@ -0,0 +1,75 @@
+package org.themarioga.cclh.commons.service;
+
+import com.github.springtestdbunit.annotation.DatabaseSetup;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.themarioga.cclh.commons.BaseTest;
+import org.themarioga.cclh.commons.enums.BroadcastTargetEnum;
+import org.themarioga.cclh.commons.models.BroadcastCheckpoint;
+import org.themarioga.cclh.commons.services.intf.BroadcastService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@DatabaseSetup("classpath:dbunit/service/setup/lang.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/user.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/room.xml")
+class BroadcastServiceTest extends BaseTest {
+
+    @Autowired
+    BroadcastService broadcastService;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testBroadcast() {
+        List<String> batches = new ArrayList<>();
+
+        long sent = broadcastService.broadcast("news", (target, ids) -> batches.add(target + " " + ids));
+
+        // Inactive users and rooms are skipped
+        Assertions.assertEquals(10, sent);
+        Assertions.assertEquals(List.of("USERS [0, 1]", "USERS [3, 4]", "USERS [5, 6]", "ROOMS [0, 1]", "ROOMS [3, 4]"), batches);
+
+        BroadcastCheckpoint checkpoint = broadcastService.getCheckpoint("news");
+        Assertions.assertTrue(checkpoint.getCompleted());
+        Assertions.assertEquals(10L, checkpoint.getSent());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testBroadcast_ResumesAfterFailure() {
+        List<Long> sentIds = new ArrayList<>();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> broadcastService.broadcast("news", (target, ids) -> {
+            if (target == BroadcastTargetEnum.USERS && ids.contains(5L)) throw new IllegalStateException("Too many requests");
+            sentIds.addAll(ids);
+        }));
+
+        BroadcastCheckpoint checkpoint = broadcastService.getCheckpoint("news");
+        Assertions.assertFalse(checkpoint.getCompleted());
+        Assertions.assertEquals(BroadcastTargetEnum.USERS, checkpoint.getTarget());
+        Assertions.assertEquals(4L, checkpoint.getLastId());
+        Assertions.assertEquals(4L, checkpoint.getSent());
+
+        long sent = broadcastService.broadcast("news", (target, ids) -> sentIds.addAll(ids));
+
+        // Every user and room exactly once, the failed batch included
+        Assertions.assertEquals(6, sent);
+        Assertions.assertEquals(List.of(0L, 1L, 3L, 4L, 5L, 6L, 0L, 1L, 3L, 4L), sentIds);
+        Assertions.assertEquals(10L, broadcastService.getCheckpoint("news").getSent());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testBroadcast_AlreadyCompleted() {
+        broadcastService.broadcast("news", (target, ids) -> {});
+
+        long sent = broadcastService.broadcast("news", (target, ids) -> Assertions.fail("Completed broadcasts are not sent again"));
+
+        Assertions.assertEquals(0, sent);
+    }
+
+}
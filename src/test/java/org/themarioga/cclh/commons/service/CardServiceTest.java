@@ -0,0 +1,125 @@
+package org.themarioga.cclh.commons.service;
+
+import com.github.springtestdbunit.annotation.DatabaseSetup;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.themarioga.cclh.commons.BaseTest;
+import org.themarioga.cclh.commons.enums.CardTypeEnum;
+import org.themarioga.cclh.commons.exceptions.card.CardAlreadyExistsException;
+import org.themarioga.cclh.commons.exceptions.dictionary.DictionaryAlreadyFilledException;
+import org.themarioga.cclh.commons.models.Card;
+import org.themarioga.cclh.commons.models.Dictionary;
+import org.themarioga.cclh.commons.services.intf.CardService;
+import org.themarioga.cclh.commons.services.intf.DictionaryService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@DatabaseSetup("classpath:dbunit/service/setup/lang.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/user.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/dictionary.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/card.xml")
+class CardServiceTest extends BaseTest {
+
+    @Autowired
+    CardService cardService;
+
+    @Autowired
+    DictionaryService dictionaryService;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testGetCardById_SecondLevelCache() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> cardService.getCardById(3L));
+
+        Statistics statistics = getCurrentSession().getSessionFactory().getStatistics();
+        statistics.clear();
+
+        String text = transactionTemplate.execute(status -> cardService.getCardById(3L).getText());
+
+        Assertions.assertEquals("First white card", text);
+        Assertions.assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testChangeText_SecondLevelCache() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> cardService.getCardById(3L));
+        transactionTemplate.executeWithoutResult(status -> cardService.changeText(cardService.getCardById(3L), "Changed white card"));
+
+        String text = transactionTemplate.execute(status -> cardService.getCardById(3L).getText());
+
+        Assertions.assertEquals("Changed white card", text);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testCreateCards_StatementCount() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // Move the card id block past the ids used by the dataset
+        transactionTemplate.executeWithoutResult(status -> getCurrentSession().createNativeMutationQuery("UPDATE t_id_generator SET next_val = 100 WHERE name = 'card'").executeUpdate());
+
+        Statistics statistics = getCurrentSession().getSessionFactory().getStatistics();
+        statistics.clear();
+
+        List<Card> cards = transactionTemplate.execute(status -> cardService.create(dictionaryService.getDictionaryById(0L), CardTypeEnum.WHITE, List.of("New white card 1", "New white card 2", "New white card 3", "New white card 4")));
+
+        Assertions.assertNotNull(cards);
+        Assertions.assertEquals(4, cards.size());
+        Assertions.assertTrue(cards.stream().allMatch(card -> card.getId() != null));
+        Assertions.assertTrue(cards.stream().allMatch(card -> card.getRevision() == 1L));
+        Assertions.assertEquals(4, statistics.getEntityInsertCount());
+        // Existing texts, card count, the card revision, the id block and a single batched insert for the four cards
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= 7, "Prepared statements: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testCreateCards_CardAlreadyExists() {
+        Dictionary dictionary = dictionaryService.getDictionaryById(0L);
+
+        Assertions.assertThrows(CardAlreadyExistsException.class, () -> cardService.create(dictionary, CardTypeEnum.WHITE, List.of("New white card", "First white card")));
+        Assertions.assertThrows(CardAlreadyExistsException.class, () -> cardService.create(dictionary, CardTypeEnum.WHITE, List.of("New white card", "New white card")));
+    }
+
+    @Test
+    void testCreateCards_CheckOrder() {
+        Dictionary dictionary = dictionaryService.getDictionaryById(0L);
+        String tooLong = "x".repeat(200);
+
+        // Same order as a single card: already exists, dictionary filled and then text length
+        Assertions.assertThrows(CardAlreadyExistsException.class, () -> cardService.create(dictionary, CardTypeEnum.BLACK, List.of(tooLong, "First black card")));
+
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            texts.add("New black card " + i);
+        }
+        texts.add(tooLong);
+        Assertions.assertThrows(DictionaryAlreadyFilledException.class, () -> cardService.create(dictionary, CardTypeEnum.BLACK, texts));
+    }
+
+    @Test
+    void testCreateCard_TextWithWildcard() {
+        Dictionary dictionary = dictionaryService.getDictionaryById(0L);
+
+        // Blanks are written as underscores, which must not match other texts as a pattern would
+        Card card = cardService.create(dictionary, CardTypeEnum.WHITE, "First white car_");
+
+        Assertions.assertNotNull(card.getId());
+    }
+
+}
@@ -0,0 +1,80 @@
+package org.themarioga.cclh.commons.service;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.themarioga.cclh.commons.BaseTest;
+import org.themarioga.cclh.commons.enums.GamePunctuationTypeEnum;
+import org.themarioga.cclh.commons.enums.GameTypeEnum;
+import org.themarioga.cclh.commons.exceptions.configuration.ConfigurationInvalidException;
+import org.themarioga.cclh.commons.services.intf.ConfigurationService;
+
+class ConfigurationServiceTest extends BaseTest {
+
+    @Autowired
+    ConfigurationService configurationService;
+
+    @Test
+    void testGetTypedConfiguration() {
+        Assertions.assertEquals(5, configurationService.getGameWhiteCardsInHand());
+        Assertions.assertEquals(GameTypeEnum.DEMOCRACY, configurationService.getGameDefaultGameType());
+        Assertions.assertEquals(GamePunctuationTypeEnum.POINTS, configurationService.getGameDefaultGamePunctuationType());
+        Assertions.assertEquals(1L, configurationService.getGameDefaultDictionaryId());
+        Assertions.assertEquals(10, configurationService.getDictionariesMaxCollaborators());
+        Assertions.assertEquals("es", configurationService.getDefaultLanguage());
+        Assertions.assertEquals("@cclhbot", configurationService.getConfiguration("cclh_bot_alias"));
+    }
+
+    @Test
+    void testRefreshIfChanged_SameVersion() {
+        getCurrentSession().createNativeMutationQuery("UPDATE t_configuration SET conf_value='7' WHERE conf_key='game_whitecards_in_hand'").executeUpdate();
+
+        configurationService.refreshIfChanged();
+
+        Assertions.assertEquals(5, configurationService.getGameWhiteCardsInHand());
+    }
+
+    @Test
+    void testRefreshIfChanged_NewVersion() {
+        getCurrentSession().createNativeMutationQuery("UPDATE t_configuration SET conf_value='7' WHERE conf_key='game_whitecards_in_hand'").executeUpdate();
+        getCurrentSession().createNativeMutationQuery("UPDATE t_configuration SET conf_value='2' WHERE conf_key='configuration_version'").executeUpdate();
+
+        configurationService.refreshIfChanged();
+
+        Assertions.assertEquals(7, configurationService.getGameWhiteCardsInHand());
+    }
+
+    @Test
+    void testReload() {
+        getCurrentSession().createNativeMutationQuery("UPDATE t_configuration SET conf_value='en' WHERE conf_key='default_language'").executeUpdate();
+
+        configurationService.reload();
+
+        Assertions.assertEquals("en", configurationService.getDefaultLanguage());
+    }
+
+    @Test
+    void testMissingKey() {
+        getCurrentSession().createNativeMutationQuery("DELETE FROM t_configuration WHERE conf_key='game_whitecards_in_hand'").executeUpdate();
+
+        configurationService.reload();
+
+        Assertions.assertThrows(ConfigurationInvalidException.class, () -> configurationService.getGameWhiteCardsInHand());
+        Assertions.assertEquals(10, configurationService.getDictionariesMaxCollaborators());
+    }
+
+    @Test
+    void testMalformedKey() {
+        getCurrentSession().createNativeMutationQuery("UPDATE t_configuration SET conf_value='five' WHERE conf_key='game_whitecards_in_hand'").executeUpdate();
+        getCurrentSession().createNativeMutationQuery("UPDATE t_configuration SET conf_value='9' WHERE conf_key='game_default_game_type'").executeUpdate();
+
+        configurationService.reload();
+
+        // Only the malformed keys fail, the rest of the configuration is still served
+        Assertions.assertThrows(ConfigurationInvalidException.class, () -> configurationService.getGameWhiteCardsInHand());
+        Assertions.assertThrows(ConfigurationInvalidException.class, () -> configurationService.getGameDefaultGameType());
+        Assertions.assertEquals(GamePunctuationTypeEnum.POINTS, configurationService.getGameDefaultGamePunctuationType());
+        Assertions.assertEquals(1L, configurationService.getGameDefaultDictionaryId());
+    }
+
+}
@@ -0,0 +1,151 @@
+package org.themarioga.cclh.commons.service;
+
+import com.github.springtestdbunit.annotation.DatabaseSetup;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.themarioga.cclh.commons.BaseTest;
+import org.themarioga.cclh.commons.enums.TableStatusEnum;
+import org.themarioga.cclh.commons.exceptions.game.GameAlreadyStartedException;
+import org.themarioga.cclh.commons.models.Game;
+import org.themarioga.cclh.commons.models.Player;
+import org.themarioga.cclh.commons.services.intf.GameCommandExecutor;
+import org.themarioga.cclh.commons.services.intf.GameService;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DatabaseSetup("classpath:dbunit/service/setup/lang.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/user.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/room.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/dictionary.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/card.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/game.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/player.xml")
+class GameCommandExecutorTest extends BaseTest {
+
+    @Autowired
+    GameCommandExecutor gameCommandExecutor;
+
+    @Autowired
+    GameService gameService;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testSubmit_OrderedPerRoom() {
+        List<Integer> firstRoomCommands = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> secondRoomCommands = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger runningInFirstRoom = new AtomicInteger();
+        AtomicInteger maxRunningInFirstRoom = new AtomicInteger();
+
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            int command = i;
+            results.add(gameCommandExecutor.submit(0L, () -> {
+                maxRunningInFirstRoom.accumulateAndGet(runningInFirstRoom.incrementAndGet(), Math::max);
+                firstRoomCommands.add(command);
+                runningInFirstRoom.decrementAndGet();
+                return command;
+            }));
+            results.add(gameCommandExecutor.submit(1L, () -> {
+                secondRoomCommands.add(command);
+                return command;
+            }));
+        }
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).join();
+
+        Assertions.assertEquals(1, maxRunningInFirstRoom.get());
+        for (int i = 0; i < 50; i++) {
+            Assertions.assertEquals(i, firstRoomCommands.get(i));
+            Assertions.assertEquals(i, secondRoomCommands.get(i));
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testSubmit_RoomsInParallel() throws InterruptedException {
+        CountDownLatch bothRunning = new CountDownLatch(2);
+
+        CompletableFuture<Boolean> firstRoom = gameCommandExecutor.submit(0L, () -> awaitLatch(bothRunning));
+        CompletableFuture<Boolean> secondRoom = gameCommandExecutor.submit(1L, () -> awaitLatch(bothRunning));
+
+        Assertions.assertTrue(firstRoom.join());
+        Assertions.assertTrue(secondRoom.join());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testExecute_ConcurrentPlayCard() {
+        gameCommandExecutor.execute(0L, () -> gameService.startGame(gameService.getByRoomId(0L)));
+        Game game = gameCommandExecutor.execute(0L, () -> gameService.startRound(gameService.getByRoomId(0L)));
+
+        List<CompletableFuture<Game>> results = new ArrayList<>();
+        for (Player player : game.getPlayers()) {
+            long userId = player.getUser().getId();
+            long cardId = player.getHand().get(0).getCard().getId();
+            results.add(CompletableFuture.supplyAsync(() -> gameCommandExecutor.execute(0L, () -> gameService.playCard(gameService.getByRoomId(0L), userId, cardId))));
+        }
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).join();
+
+        TableStatusEnum status = gameCommandExecutor.execute(0L, () -> gameService.getByRoomId(0L).getTable().getStatus());
+        int playedCards = gameCommandExecutor.execute(0L, () -> gameService.getByRoomId(0L).getTable().getPlayedCardsCount());
+
+        Assertions.assertEquals(TableStatusEnum.VOTING, status);
+        Assertions.assertEquals(game.getPlayers().size(), playedCards);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testPlayCard_ByRoomId() {
+        gameCommandExecutor.execute(0L, () -> gameService.startGame(gameService.getByRoomId(0L)));
+        Game game = gameService.startRound(0L);
+
+        List<CompletableFuture<Game>> results = new ArrayList<>();
+        for (Player player : game.getPlayers()) {
+            long userId = player.getUser().getId();
+            long cardId = player.getHand().get(0).getCard().getId();
+            results.add(CompletableFuture.supplyAsync(() -> gameService.playCard(0L, userId, cardId)));
+        }
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).join();
+
+        TableStatusEnum status = gameCommandExecutor.execute(0L, () -> gameService.getByRoomId(0L).getTable().getStatus());
+
+        Assertions.assertEquals(TableStatusEnum.VOTING, status);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testExecute_OtherRoomFromCommand() {
+        CompletableFuture<Integer> result = gameCommandExecutor.submit(0L, () -> gameCommandExecutor.execute(1L, () -> 1));
+
+        CompletionException exception = Assertions.assertThrows(CompletionException.class, result::join);
+        Assertions.assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testExecute_ApplicationException() {
+        gameCommandExecutor.execute(0L, () -> gameService.startGame(gameService.getByRoomId(0L)));
+
+        Assertions.assertThrows(GameAlreadyStartedException.class, () -> gameCommandExecutor.execute(0L, () -> gameService.startGame(gameService.getByRoomId(0L))));
+    }
+
+    private boolean awaitLatch(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,107 @@
+package org.themarioga.cclh.commons.service;
+
+import com.github.springtestdbunit.annotation.DatabaseSetup;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.themarioga.cclh.commons.BaseTest;
+import org.themarioga.cclh.commons.events.*;
+import org.themarioga.cclh.commons.models.Game;
+import org.themarioga.cclh.commons.models.Player;
+import org.themarioga.cclh.commons.services.intf.GameEventBus;
+import org.themarioga.cclh.commons.services.intf.GameService;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@DatabaseSetup("classpath:dbunit/service/setup/lang.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/user.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/room.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/dictionary.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/card.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/game.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/player.xml")
+class GameEventBusTest extends BaseTest {
+
+    @Autowired
+    GameEventBus gameEventBus;
+
+    @Autowired
+    GameService gameService;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testPublish_RoundEvents() throws InterruptedException {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        BlockingQueue<GameEvent> events = new LinkedBlockingQueue<>();
+        gameEventBus.subscribe(GameEvent.class, events::add);
+
+        transactionTemplate.executeWithoutResult(status -> gameService.startGame(gameService.getByRoomId(0L)));
+        Game game = transactionTemplate.execute(status -> gameService.startRound(gameService.getByRoomId(0L)));
+        Assertions.assertNotNull(game);
+        for (Player player : List.copyOf(game.getPlayers())) {
+            long userId = player.getUser().getId();
+            long cardId = player.getHand().get(0).getCard().getId();
+            transactionTemplate.executeWithoutResult(status -> gameService.playCard(gameService.getByRoomId(0L), userId, cardId));
+        }
+
+        GameEvent roundStarted = events.poll(5, TimeUnit.SECONDS);
+        Assertions.assertInstanceOf(RoundStartedEvent.class, roundStarted);
+        Assertions.assertEquals(10L, roundStarted.gameId());
+        Assertions.assertEquals(0L, roundStarted.roomId());
+        Assertions.assertEquals(1, ((RoundStartedEvent) roundStarted).roundNumber());
+        Assertions.assertEquals(game.getTable().getCurrentBlackCard().getId(), ((RoundStartedEvent) roundStarted).blackCardId());
+        for (Player player : game.getPlayers()) {
+            GameEvent cardPlayed = events.poll(5, TimeUnit.SECONDS);
+            Assertions.assertInstanceOf(CardPlayedEvent.class, cardPlayed);
+            Assertions.assertEquals(player.getUser().getId(), ((CardPlayedEvent) cardPlayed).userId());
+        }
+        Assertions.assertEquals(new VotingStartedEvent(10L, 0L, 1), events.poll(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(events.isEmpty());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testPublish_OnlyAfterCommit() throws InterruptedException {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        BlockingQueue<GameCreatedEvent> events = new LinkedBlockingQueue<>();
+        gameEventBus.subscribe(GameCreatedEvent.class, events::add);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            gameService.create(4L, "Fifth", 4L);
+            status.setRollbackOnly();
+        });
+        Game game = transactionTemplate.execute(status -> gameService.create(4L, "Fifth", 4L));
+
+        Assertions.assertNotNull(game);
+        Assertions.assertEquals(new GameCreatedEvent(game.getId(), 4L, 4L), events.poll(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(events.isEmpty());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testPublish_FailingListener() throws InterruptedException {
+        BlockingQueue<GameEvent> events = new LinkedBlockingQueue<>();
+        gameEventBus.subscribe(GameEndedEvent.class, event -> {
+            throw new IllegalStateException();
+        });
+        gameEventBus.subscribe(GameEndedEvent.class, events::add);
+        gameEventBus.subscribe(RoundEndedEvent.class, events::add);
+
+        // Outside of a transaction the event is delivered right away
+        gameEventBus.publish(new GameEndedEvent(10L, 0L));
+
+        Assertions.assertEquals(new GameEndedEvent(10L, 0L), events.poll(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, gameEventBus.getDroppedEventCount());
+    }
+
+}
@@ -3,15 +3,18 @@ package org.themarioga.cclh.commons.service;
 import com.github.springtestdbunit.annotation.DatabaseSetup;
 import com.github.springtestdbunit.annotation.ExpectedDatabase;
 import com.github.springtestdbunit.assertion.DatabaseAssertionMode;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.themarioga.cclh.commons.BaseTest;
 import org.themarioga.cclh.commons.dao.intf.GameDao;
+import org.themarioga.cclh.commons.enums.CardTypeEnum;
 import org.themarioga.cclh.commons.enums.GameStatusEnum;
 import org.themarioga.cclh.commons.enums.GameTypeEnum;
 import org.themarioga.cclh.commons.enums.TableStatusEnum;
 import org.themarioga.cclh.commons.exceptions.ApplicationException;
+import org.themarioga.cclh.commons.exceptions.card.CardNotPlayedException;
 import org.themarioga.cclh.commons.exceptions.dictionary.DictionaryDoesntExistsException;
 import org.themarioga.cclh.commons.exceptions.game.*;
 import org.themarioga.cclh.commons.exceptions.player.*;
@@ -21,10 +24,17 @@ import org.themarioga.cclh.commons.models.Card;
 import org.themarioga.cclh.commons.models.Game;
 import org.themarioga.cclh.commons.models.PlayedCard;
 import org.themarioga.cclh.commons.models.Player;
+import org.themarioga.cclh.commons.models.PlayerHandCard;
+import org.themarioga.cclh.commons.services.intf.CardService;
 import org.themarioga.cclh.commons.services.intf.DictionaryService;
 import org.themarioga.cclh.commons.services.intf.GameService;
 import org.themarioga.cclh.commons.services.intf.PlayerService;
 import org.themarioga.cclh.commons.services.intf.UserService;
+import org.themarioga.cclh.commons.util.DeckOrder;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 @DatabaseSetup("classpath:dbunit/service/setup/lang.xml")
 @DatabaseSetup("classpath:dbunit/service/setup/user.xml")
@@ -47,6 +57,9 @@ class GameServiceTest extends BaseTest {
     @Autowired
     DictionaryService dictionaryService;
 
+    @Autowired
+    CardService cardService;
+
     @Autowired
     PlayerService playerService;
 
@@ -54,6 +67,7 @@ class GameServiceTest extends BaseTest {
     @ExpectedDatabase(value = "classpath:dbunit/service/expected/testCreateGame-expected.xml", table = "T_GAME", assertionMode = DatabaseAssertionMode.NON_STRICT_UNORDERED)
     void testCreateGame() {
         Game game = gameService.create(2L, "Room 3", 3L);
+        getCurrentSession().flush();
 
         Assertions.assertNotNull(game);
         Assertions.assertNotNull(game.getId());
@@ -85,6 +99,30 @@ class GameServiceTest extends BaseTest {
         Assertions.assertNull(game);
     }
 
+    @Test
+    void testDeleteGame_StartedGame() {
+        gameService.startGame(gameService.getByRoomId(0L));
+        Game game = gameService.startRound(gameService.getByRoomId(0L));
+        Player player = game.getPlayers().get(0);
+        gameService.playCard(game, player.getUser().getId(), player.getHand().get(0).getCard().getId());
+        gameService.voteForDeletion(game, player.getUser().getId());
+        getCurrentSession().flush();
+
+        Statistics statistics = getCurrentSession().getSessionFactory().getStatistics();
+        statistics.clear();
+
+        gameService.delete(game);
+        getCurrentSession().flush();
+
+        // A fixed number of set based deletes, nothing removed row by row
+        Assertions.assertEquals(0, statistics.getEntityDeleteCount());
+        Assertions.assertEquals(8, statistics.getPrepareStatementCount());
+        Assertions.assertFalse(getCurrentSession().contains(game));
+        Assertions.assertNull(gameService.getByRoomId(0L));
+        Assertions.assertEquals(0L, getCurrentSession().createNativeQuery("SELECT count(*) FROM t_player_hand", Long.class).getSingleResult());
+        Assertions.assertEquals(0L, getCurrentSession().createNativeQuery("SELECT count(*) FROM t_player WHERE game_id=0", Long.class).getSingleResult());
+    }
+
     @Test
     void testDelete_RoomNotExists() {
         Assertions.assertThrows(RoomDoesntExistsException.class, () -> gameService.delete(gameService.getByRoomId(70L)));
@@ -250,6 +288,90 @@ class GameServiceTest extends BaseTest {
         Assertions.assertThrows(GameNotFilledException.class, () -> gameService.startGame(gameService.getByRoomId(1L)));
     }
 
+    @Test
+    void testStartGame_LazyDeck() {
+        Game game = gameService.getByRoomId(0L);
+
+        Statistics statistics = getCurrentSession().getSessionFactory().getStatistics();
+        statistics.clear();
+
+        game = gameService.startGame(game);
+        getCurrentSession().flush();
+
+        // Only the table row is inserted, the deck is not copied
+        Assertions.assertEquals(1, statistics.getEntityInsertCount());
+        Assertions.assertNotNull(game.getDeckSeed());
+        Assertions.assertEquals(0L, game.getDeckCardRevision());
+        Assertions.assertNull(game.getBlackDeckCursor());
+        Assertions.assertNull(game.getWhiteDeckCursor());
+
+        List<Card> whiteCards = gameDao.getGameDeckCards(game, 20, CardTypeEnum.WHITE, Set.of());
+
+        Assertions.assertEquals(15, whiteCards.size());
+        for (int i = 1; i < whiteCards.size(); i++) {
+            Assertions.assertTrue(DeckOrder.key(game.getDeckSeed(), whiteCards.get(i - 1).getId()) < DeckOrder.key(game.getDeckSeed(), whiteCards.get(i).getId()));
+        }
+    }
+
+    @Test
+    void testStartRound_DrawFromDeckCursor() {
+        gameService.startGame(gameService.getByRoomId(0L));
+        Game game = gameService.startRound(gameService.getByRoomId(0L));
+        getCurrentSession().flush();
+
+        Assertions.assertNotNull(game.getBlackDeckCursor());
+        Assertions.assertNotNull(game.getWhiteDeckCursor());
+        Assertions.assertEquals(2, gameDao.getGameDeckCards(game, 20, CardTypeEnum.BLACK, Set.of()).size());
+        Assertions.assertEquals(0, gameDao.getGameDeckCards(game, 20, CardTypeEnum.WHITE, Set.of()).size());
+
+        Set<Long> handCardIds = new HashSet<>();
+        for (Player player : game.getPlayers()) {
+            player.getHand().forEach(playerHandCard -> handCardIds.add(playerHandCard.getCard().getId()));
+        }
+        Assertions.assertEquals(15, handCardIds.size());
+    }
+
+    @Test
+    void testStartRound_CardsInPlayAheadOfCursor() {
+        gameService.startGame(gameService.getByRoomId(0L));
+        getCurrentSession().flush();
+
+        // A game migrated from the deck table, its players hold cards the lazy deck has not drawn
+        getCurrentSession().createNativeMutationQuery("INSERT INTO t_player_hand (player_id, card_id) VALUES (10, 3), (10, 4)").executeUpdate();
+        getCurrentSession().clear();
+
+        Game game = gameService.startRound(gameService.getByRoomId(0L));
+        getCurrentSession().flush();
+
+        Set<Long> handCardIds = new HashSet<>();
+        int handCards = 0;
+        for (Player player : game.getPlayers()) {
+            for (PlayerHandCard playerHandCard : player.getHand()) {
+                handCardIds.add(playerHandCard.getCard().getId());
+                handCards++;
+            }
+        }
+        Assertions.assertEquals(15, handCards);
+        Assertions.assertEquals(15, handCardIds.size());
+    }
+
+    @Test
+    void testStartGame_LazyDeckSnapshot() {
+        Game game = gameService.startGame(gameService.getByRoomId(0L));
+        getCurrentSession().flush();
+
+        List<Card> blackCards = gameDao.getGameDeckCards(game, 20, CardTypeEnum.BLACK, Set.of());
+
+        // Cards added after the start are not part of the deck, even with an id from an older block of another instance,
+        // deleted ones are skipped without moving the others
+        getCurrentSession().createNativeMutationQuery("UPDATE t_dictionary SET card_revision = 1 WHERE id = 0").executeUpdate();
+        getCurrentSession().createNativeMutationQuery("INSERT INTO t_card (id, text, type, dictionary_id, revision) VALUES (-1, 'Other black card', 0, 0, 1), (100, 'New black card', 0, 0, 1)").executeUpdate();
+        cardService.delete(blackCards.get(1));
+        getCurrentSession().flush();
+
+        Assertions.assertEquals(List.of(blackCards.get(0), blackCards.get(2)), gameDao.getGameDeckCards(game, 20, CardTypeEnum.BLACK, Set.of()));
+    }
+
     @Test
     void testStartRound() {
         gameService.startGame(gameService.getByRoomId(0L));
@@ -262,6 +384,23 @@ class GameServiceTest extends BaseTest {
         Assertions.assertNotNull(game.getTable().getCurrentBlackCard());
     }
 
+    @Test
+    void testStartRound_DealWholeTable() {
+        gameService.startGame(gameService.getByRoomId(0L));
+        Game game = gameService.startRound(gameService.getByRoomId(0L));
+        getCurrentSession().flush();
+        getCurrentSession().clear();
+        game = gameService.getByRoomId(0L);
+
+        Set<Long> dealtCards = new HashSet<>();
+        for (Player player : game.getPlayers()) {
+            Assertions.assertEquals(5, player.getHand().size());
+            player.getHand().forEach(playerHandCard -> dealtCards.add(playerHandCard.getCard().getId()));
+        }
+
+        Assertions.assertEquals(15, dealtCards.size());
+    }
+
     @Test
     void testStartRound_Classic() {
         gameService.setType(gameService.getByRoomId(0L), GameTypeEnum.CLASSIC);
@@ -296,6 +435,31 @@ class GameServiceTest extends BaseTest {
         Assertions.assertEquals(0, game.getTable().getVotedCards().size());
     }
 
+    @Test
+    void testEndRound_StatementCount() {
+        gameService.startGame(gameService.getByRoomId(0L));
+        Game game = gameService.startRound(gameService.getByRoomId(0L));
+        for (Player player : List.copyOf(game.getPlayers())) {
+            game = gameService.playCard(game, player.getUser().getId(), player.getHand().get(0).getCard().getId());
+        }
+        game.getTable().setStatus(TableStatusEnum.ENDING);
+        gameDao.update(game);
+        getCurrentSession().flush();
+        getCurrentSession().clear();
+
+        Statistics statistics = getCurrentSession().getSessionFactory().getStatistics();
+        statistics.clear();
+
+        game = gameService.endRound(gameService.getByRoomId(0L));
+        getCurrentSession().flush();
+
+        // Round cards are removed with one statement per table, whatever the number of players
+        Assertions.assertEquals(0, statistics.getEntityDeleteCount());
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= 7, "Prepared statements: " + statistics.getPrepareStatementCount());
+        Assertions.assertEquals(TableStatusEnum.STARTING, game.getTable().getStatus());
+        Assertions.assertTrue(game.getTable().getPlayedCards().isEmpty());
+    }
+
     @Test
     void testVoteDeletion_vote() {
         gameService.startGame(gameService.getByRoomId(0L));
@@ -342,6 +506,109 @@ class GameServiceTest extends BaseTest {
         Assertions.assertEquals(1, game.getTable().getPlayedCards().size());
     }
 
+    @Test
+    void testPlayCard_StatementCount() {
+        gameService.startGame(gameService.getByRoomId(0L));
+        Game game = gameService.startRound(gameService.getByRoomId(0L));
+        getCurrentSession().flush();
+        Player player = game.getPlayers().get(0);
+        Card card = player.getHand().get(0).getCard();
+
+        Statistics statistics = getCurrentSession().getSessionFactory().getStatistics();
+        statistics.clear();
+
+        gameService.playCard(game, player.getUser().getId(), card.getId());
+        getCurrentSession().flush();
+
+        // Only the player lookup runs as a query, the played check does not count rows
+        Assertions.assertEquals(1, statistics.getQueryExecutionCount());
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= 5);
+    }
+
+    @Test
+    void testStartRound_LoadedGameStatementCount() {
+        gameService.startGame(gameService.getByRoomId(0L));
+        getCurrentSession().flush();
+        getCurrentSession().clear();
+        Game game = gameService.getByRoomId(0L);
+
+        Statistics statistics = getCurrentSession().getSessionFactory().getStatistics();
+        statistics.clear();
+
+        gameService.startRound(game);
+        getCurrentSession().flush();
+
+        // Players and hands come in two queries instead of one select per player, hand and card
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= 9);
+    }
+
+    @Test
+    void testPlayCard_LoadedGameStatementCount() {
+        gameService.startGame(gameService.getByRoomId(0L));
+        Game game = gameService.startRound(gameService.getByRoomId(0L));
+        Player player = game.getPlayers().get(0);
+        long userId = player.getUser().getId();
+        long cardId = player.getHand().get(0).getCard().getId();
+        getCurrentSession().flush();
+        getCurrentSession().clear();
+        game = gameService.getByRoomId(0L);
+
+        Statistics statistics = getCurrentSession().getSessionFactory().getStatistics();
+        statistics.clear();
+
+        gameService.playCard(game, userId, cardId);
+        getCurrentSession().flush();
+
+        // Players and hands come in two queries instead of one select per player and hand
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= 7);
+    }
+
+    @Test
+    void testVoteCard_LoadedGameStatementCount() {
+        gameService.startGame(gameService.getByRoomId(0L));
+        Game game = gameService.startRound(gameService.getByRoomId(0L));
+        Player player = game.getPlayers().get(0);
+        long userId = player.getUser().getId();
+        long cardId = player.getHand().get(0).getCard().getId();
+        gameService.playCard(game, userId, cardId);
+        game.getTable().setStatus(TableStatusEnum.VOTING);
+        gameDao.update(game);
+        getCurrentSession().flush();
+        getCurrentSession().clear();
+        game = gameService.getByRoomId(0L);
+
+        Statistics statistics = getCurrentSession().getSessionFactory().getStatistics();
+        statistics.clear();
+
+        gameService.voteForCard(game, userId, cardId);
+        getCurrentSession().flush();
+
+        // Table, played cards and voted cards come in two queries
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= 8);
+    }
+
+    @Test
+    void testVoteCard_PresidentLoadedAsProxy() {
+        gameService.setType(gameService.getByRoomId(0L), GameTypeEnum.DICTATORSHIP);
+        gameService.startGame(gameService.getByRoomId(0L));
+        Game game = gameService.startRound(gameService.getByRoomId(0L));
+        long presidentUserId = game.getTable().getCurrentPresident().getUser().getId();
+        long cardId = 0L;
+        for (Player player : List.copyOf(game.getPlayers())) {
+            if (player.getUser().getId() == presidentUserId) continue;
+
+            cardId = player.getHand().get(0).getCard().getId();
+            game = gameService.playCard(game, player.getUser().getId(), cardId);
+        }
+        getCurrentSession().flush();
+        getCurrentSession().clear();
+
+        // The president is a lazy proxy of the table in the new persistence context
+        game = gameService.voteForCard(gameService.getByRoomId(0L), presidentUserId, cardId);
+
+        Assertions.assertEquals(TableStatusEnum.ENDING, game.getTable().getStatus());
+    }
+
     @Test
     void testPlayCard_GameNotStarted() {
         Assertions.assertThrows(GameNotStartedException.class, () -> gameService.playCard(gameService.getByRoomId(0L), 0L, 0L));
@@ -385,6 +652,28 @@ class GameServiceTest extends BaseTest {
         Assertions.assertEquals(playedCard.getCard().getId(), card.getId());
     }
 
+    @Test
+    void testVoteCard_StatementCount() {
+        gameService.startGame(gameService.getByRoomId(0L));
+        Game game = gameService.startRound(gameService.getByRoomId(0L));
+        Player player = game.getPlayers().get(0);
+        Card card = player.getHand().get(0).getCard();
+        gameService.playCard(game, player.getUser().getId(), card.getId());
+        game.getTable().setStatus(TableStatusEnum.VOTING);
+        gameDao.update(game);
+        getCurrentSession().flush();
+
+        Statistics statistics = getCurrentSession().getSessionFactory().getStatistics();
+        statistics.clear();
+
+        gameService.voteForCard(game, player.getUser().getId(), card.getId());
+        getCurrentSession().flush();
+
+        // Only the player lookup runs as a query, the voted check does not count rows
+        Assertions.assertEquals(1, statistics.getQueryExecutionCount());
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= 5);
+    }
+
     @Test
     void testVoteCard_GameNotStarted() {
         Assertions.assertThrows(GameNotStartedException.class, () -> gameService.voteForCard(gameService.getByRoomId(0L), 0L, 0L));
@@ -404,6 +693,18 @@ class GameServiceTest extends BaseTest {
         Assertions.assertThrows(PlayerAlreadyVotedCardException.class, () -> gameService.voteForCard(game, player.getUser().getId(), card.getId()));
     }
 
+    @Test
+    void testVoteCard_CardNotPlayed() {
+        gameService.startGame(gameService.getByRoomId(0L));
+        Game game = gameService.startRound(gameService.getByRoomId(0L));
+        Player player = game.getPlayers().get(0);
+        gameService.playCard(game, player.getUser().getId(), player.getHand().get(0).getCard().getId());
+        game.getTable().setStatus(TableStatusEnum.VOTING);
+        gameDao.update(game);
+
+        Assertions.assertThrows(CardNotPlayedException.class, () -> gameService.voteForCard(game, player.getUser().getId(), player.getHand().get(0).getCard().getId()));
+    }
+
     @Test
     void testVoteCard_PlayerCannotVote() {
         gameService.setType(gameService.getByRoomId(0L), GameTypeEnum.DICTATORSHIP);
@@ -0,0 +1,64 @@
+package org.themarioga.cclh.commons.service;
+
+import com.github.springtestdbunit.annotation.DatabaseSetup;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.themarioga.cclh.commons.BaseTest;
+import org.themarioga.cclh.commons.config.ServiceMetricsAspect;
+import org.themarioga.cclh.commons.exceptions.game.GameAlreadyStartedException;
+import org.themarioga.cclh.commons.services.impl.MetricsServiceImpl;
+import org.themarioga.cclh.commons.services.intf.GameService;
+import org.themarioga.cclh.commons.services.intf.MetricsService;
+
+@DatabaseSetup("classpath:dbunit/service/setup/lang.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/user.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/room.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/dictionary.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/card.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/game.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/player.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/table.xml")
+class MetricsServiceTest extends BaseTest {
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    MetricsService metricsService;
+
+    @Autowired
+    GameService gameService;
+
+    @Test
+    void testServiceCall_Timed() {
+        gameService.getByRoomId(0L);
+        gameService.getByRoomId(1L);
+
+        Assertions.assertEquals(2, meterRegistry.get(ServiceMetricsAspect.TIMER_NAME).tags("service", "GameService", "operation", "getByRoomId", "outcome", "success").timer().count());
+        Assertions.assertTrue(meterRegistry.find(ServiceMetricsAspect.TIMER_NAME).tags("service", "RoomService").timers().isEmpty());
+    }
+
+    @Test
+    void testServiceCall_ErrorCounted() {
+        Assertions.assertThrows(GameAlreadyStartedException.class, () -> gameService.startGame(gameService.getByRoomId(3L)));
+
+        Assertions.assertEquals(1, meterRegistry.get(ServiceMetricsAspect.ERROR_COUNTER_NAME).tags("service", "GameService", "operation", "startGame", "error", "GAME_ALREADY_STARTED", "error.code", "19").counter().count());
+        Assertions.assertEquals(1, meterRegistry.get(ServiceMetricsAspect.TIMER_NAME).tags("operation", "startGame", "outcome", "error").timer().count());
+    }
+
+    @Test
+    void testRefreshStatusGauges() {
+        Assertions.assertEquals(0, meterRegistry.get(MetricsServiceImpl.GAMES_GAUGE_NAME).tag("status", "CREATED").gauge().value());
+
+        metricsService.refreshStatusGauges();
+
+        Assertions.assertEquals(2, meterRegistry.get(MetricsServiceImpl.GAMES_GAUGE_NAME).tag("status", "CREATED").gauge().value());
+        Assertions.assertEquals(1, meterRegistry.get(MetricsServiceImpl.GAMES_GAUGE_NAME).tag("status", "STARTED").gauge().value());
+        Assertions.assertEquals(0, meterRegistry.get(MetricsServiceImpl.GAMES_GAUGE_NAME).tag("status", "ENDED").gauge().value());
+        Assertions.assertEquals(1, meterRegistry.get(MetricsServiceImpl.TABLES_GAUGE_NAME).tag("status", "STARTING").gauge().value());
+        Assertions.assertEquals(0, meterRegistry.get(MetricsServiceImpl.TABLES_GAUGE_NAME).tag("status", "VOTING").gauge().value());
+    }
+
+}
@@ -0,0 +1,129 @@
+package org.themarioga.cclh.commons.service;
+
+import com.github.springtestdbunit.annotation.DatabaseSetup;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.themarioga.cclh.commons.BaseTest;
+import org.themarioga.cclh.commons.enums.GameTypeEnum;
+import org.themarioga.cclh.commons.exceptions.game.GameConcurrentlyModifiedException;
+import org.themarioga.cclh.commons.models.Game;
+import org.themarioga.cclh.commons.models.Player;
+import org.themarioga.cclh.commons.services.impl.OptimisticLockRetrierImpl;
+import org.themarioga.cclh.commons.services.intf.GameService;
+import org.themarioga.cclh.commons.services.intf.OptimisticLockRetrier;
+import org.themarioga.cclh.commons.services.intf.PlayerService;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DatabaseSetup("classpath:dbunit/service/setup/lang.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/user.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/room.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/dictionary.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/card.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/game.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/player.xml")
+class OptimisticLockRetrierTest extends BaseTest {
+
+    @Autowired
+    OptimisticLockRetrier optimisticLockRetrier;
+
+    @Autowired
+    GameService gameService;
+
+    @Autowired
+    PlayerService playerService;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testUpdate_IncrementsVersion() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Game game = transactionTemplate.execute(status -> gameService.getByRoomId(0L));
+        transactionTemplate.executeWithoutResult(status -> gameService.setType(gameService.getByRoomId(0L), GameTypeEnum.DICTATORSHIP));
+        Game updatedGame = transactionTemplate.execute(status -> gameService.getByRoomId(0L));
+
+        Assertions.assertNotNull(game);
+        Assertions.assertNotNull(updatedGame);
+        Assertions.assertEquals(game.getVersion() + 1, updatedGame.getVersion());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testPlayCard_IncrementsTableVersion() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> gameService.startGame(gameService.getByRoomId(0L)));
+        transactionTemplate.executeWithoutResult(status -> gameService.startRound(gameService.getByRoomId(0L)));
+        long version = transactionTemplate.execute(status -> gameService.getByRoomId(0L).getTable().getVersion());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Player player = playerService.findByUserId(1L);
+            gameService.playCard(gameService.getByRoomId(0L), 1L, player.getHand().get(0).getCard().getId());
+        });
+        long updatedVersion = transactionTemplate.execute(status -> gameService.getByRoomId(0L).getTable().getVersion());
+
+        // Only a played card was added, the table itself did not change
+        Assertions.assertEquals(version + 1, updatedVersion);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testExecute_RetriesOnConflict() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Game staleGame = transactionTemplate.execute(status -> gameService.getByRoomId(0L));
+        transactionTemplate.executeWithoutResult(status -> gameService.setNumberOfCardsToWin(gameService.getByRoomId(0L), 8));
+
+        AtomicInteger attempts = new AtomicInteger();
+        Game game = optimisticLockRetrier.execute("setType", () -> gameService.setType(attempts.incrementAndGet() == 1 ? staleGame : gameService.getByRoomId(0L), GameTypeEnum.DICTATORSHIP));
+
+        Assertions.assertEquals(2, attempts.get());
+        Assertions.assertEquals(GameTypeEnum.DICTATORSHIP, game.getType());
+        Assertions.assertEquals(8, game.getNumberOfCardsToWin());
+        Assertions.assertEquals(1, optimisticLockRetrier.getExecutionCount("setType"));
+        Assertions.assertEquals(1, optimisticLockRetrier.getConflictCount("setType"));
+        Assertions.assertEquals(1.0, optimisticLockRetrier.getConflictRate("setType"));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testPlayCard_ByRoomId_Counted() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> gameService.startGame(gameService.getByRoomId(0L)));
+        gameService.startRound(0L);
+        long cardId = transactionTemplate.execute(status -> playerService.findByUserId(1L).getHand().get(0).getCard().getId());
+        double executions = meterRegistry.counter(OptimisticLockRetrierImpl.EXECUTION_COUNTER_NAME, "operation", "playCard").count();
+
+        gameService.playCard(0L, 1L, cardId);
+
+        Assertions.assertEquals(executions + 1, meterRegistry.counter(OptimisticLockRetrierImpl.EXECUTION_COUNTER_NAME, "operation", "playCard").count());
+        Assertions.assertEquals(optimisticLockRetrier.getExecutionCount("playCard"), (long) meterRegistry.counter(OptimisticLockRetrierImpl.EXECUTION_COUNTER_NAME, "operation", "playCard").count());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testExecute_ConflictsExhausted() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Game staleGame = transactionTemplate.execute(status -> gameService.getByRoomId(0L));
+        transactionTemplate.executeWithoutResult(status -> gameService.setNumberOfCardsToWin(gameService.getByRoomId(0L), 8));
+
+        Assertions.assertThrows(GameConcurrentlyModifiedException.class, () -> optimisticLockRetrier.execute("setType", () -> gameService.setType(staleGame, GameTypeEnum.DICTATORSHIP)));
+        Assertions.assertEquals(5, optimisticLockRetrier.getConflictCount("setType"));
+        Assertions.assertEquals(0, optimisticLockRetrier.getConflictCount("playCard"));
+    }
+
+}
@@ -10,6 +10,7 @@ import org.themarioga.cclh.commons.exceptions.room.RoomNotActiveException;
 import org.themarioga.cclh.commons.models.Room;
 import org.themarioga.cclh.commons.services.intf.RoomService;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @DatabaseSetup("classpath:dbunit/service/setup/lang.xml")
@@ -82,4 +83,12 @@ class RoomServiceTest extends BaseTest {
         Assertions.assertThrows(RoomNotActiveException.class, () -> roomService.getById(2L));
     }
 
+    @Test
+    void testForEachRoom() {
+        List<Long> ids = new ArrayList<>();
+        roomService.forEachRoom(room -> ids.add(room.getId()));
+
+        Assertions.assertEquals(List.of(0L, 1L, 2L, 3L, 4L), ids);
+    }
+
 }
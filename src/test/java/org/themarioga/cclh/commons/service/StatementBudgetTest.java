@@ -0,0 +1,459 @@
+package org.themarioga.cclh.commons.service;
+
+import com.github.springtestdbunit.annotation.DatabaseSetup;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.themarioga.cclh.commons.BaseTest;
+import org.themarioga.cclh.commons.SqlStatementCounter;
+import org.themarioga.cclh.commons.dao.intf.GameDao;
+import org.themarioga.cclh.commons.enums.CardTypeEnum;
+import org.themarioga.cclh.commons.enums.GameTypeEnum;
+import org.themarioga.cclh.commons.enums.TableStatusEnum;
+import org.themarioga.cclh.commons.models.Card;
+import org.themarioga.cclh.commons.models.Game;
+import org.themarioga.cclh.commons.models.Player;
+import org.themarioga.cclh.commons.services.intf.CardService;
+import org.themarioga.cclh.commons.services.intf.GameService;
+import org.themarioga.cclh.commons.services.intf.PlayerService;
+import org.themarioga.cclh.commons.services.intf.TableService;
+import org.themarioga.cclh.commons.services.intf.UserService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Maximum number of statements of every game, table and player operation, each one measured on a fresh persistence context as a request would see it
+ */
+@DatabaseSetup("classpath:dbunit/service/setup/lang.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/user.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/room.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/dictionary.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/card.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/game.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/player.xml")
+class StatementBudgetTest extends BaseTest {
+
+    @Autowired
+    GameDao gameDao;
+
+    @Autowired
+    GameService gameService;
+
+    @Autowired
+    TableService tableService;
+
+    @Autowired
+    PlayerService playerService;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    CardService cardService;
+
+    // Game service
+
+    @Test
+    void testCreate() {
+        SqlStatementCounter.reset();
+        gameService.create(2L, "Room 3", 3L);
+
+        assertStatements(5, 1, 1, 0);
+    }
+
+    @Test
+    void testDelete() {
+        Game game = playingRound();
+
+        SqlStatementCounter.reset();
+        gameService.delete(game);
+
+        assertStatements(0, 0, 0, 8);
+    }
+
+    @Test
+    void testSetType() {
+        Game game = reload();
+
+        SqlStatementCounter.reset();
+        gameService.setType(game, GameTypeEnum.DICTATORSHIP);
+
+        assertStatements(0, 0, 1, 0);
+    }
+
+    @Test
+    void testSetNumberOfCardsToWin() {
+        Game game = reload();
+
+        SqlStatementCounter.reset();
+        gameService.setNumberOfCardsToWin(game, 8);
+
+        assertStatements(0, 0, 1, 0);
+    }
+
+    @Test
+    void testSetNumberOfRoundsToEnd() {
+        Game game = reload();
+
+        SqlStatementCounter.reset();
+        gameService.setNumberOfRoundsToEnd(game, 8);
+
+        assertStatements(0, 0, 1, 0);
+    }
+
+    @Test
+    void testSetMaxNumberOfPlayers() {
+        Game game = reload();
+
+        SqlStatementCounter.reset();
+        gameService.setMaxNumberOfPlayers(game, 8);
+
+        assertStatements(1, 0, 1, 0);
+    }
+
+    @Test
+    void testSetDictionary() {
+        Game game = reload();
+
+        SqlStatementCounter.reset();
+        gameService.setDictionary(game, 1L);
+
+        assertStatements(1, 0, 1, 0);
+    }
+
+    @Test
+    void testAddPlayer() {
+        Game game = gameService.getByRoomId(1L);
+        playerService.create(game, 4L);
+        getCurrentSession().flush();
+        getCurrentSession().clear();
+        game = gameService.getByRoomId(1L);
+        Player player = playerService.findByUserId(4L);
+
+        SqlStatementCounter.reset();
+        gameService.addPlayer(game, player);
+
+        assertStatements(1, 0, 0, 0);
+    }
+
+    @Test
+    void testRemovePlayer() {
+        Game game = reload();
+        Player player = playerService.findByUserId(3L);
+
+        SqlStatementCounter.reset();
+        gameService.removePlayer(game, player);
+
+        assertStatements(4, 0, 0, 1);
+    }
+
+    @Test
+    void testStartGame() {
+        Game game = reload();
+
+        SqlStatementCounter.reset();
+        gameService.startGame(game);
+
+        assertStatements(2, 1, 1, 0);
+    }
+
+    @Test
+    void testStartRound() {
+        gameService.startGame(gameService.getByRoomId(0L));
+        Game game = reload();
+
+        SqlStatementCounter.reset();
+        gameService.startRound(game);
+
+        assertStatements(6, 1, 2, 0);
+    }
+
+    @Test
+    void testStartRound_LargeDictionary() {
+        // Fill the dictionary close to its maximum number of cards
+        StringJoiner cards = new StringJoiner(", ");
+        for (int i = 0; i < 770; i++) {
+            cards.add("(" + (1000 + i) + ", 'Card " + i + "', " + (i < 190 ? 0 : 1) + ", 0, 1)");
+        }
+        getCurrentSession().createNativeMutationQuery("INSERT INTO t_card (id, text, type, dictionary_id, revision) VALUES " + cards).executeUpdate();
+        getCurrentSession().createNativeMutationQuery("UPDATE t_dictionary SET card_revision = 1 WHERE id = 0").executeUpdate();
+        gameService.startGame(gameService.getByRoomId(0L));
+        Game game = reload();
+
+        SqlStatementCounter.reset();
+        gameService.startRound(game);
+
+        assertStatements(6, 1, 2, 0);
+
+        // The card ids of the deck are read once, later draws only load the drawn cards
+        game = reload();
+
+        SqlStatementCounter.reset();
+        gameDao.getGameDeckCards(game, 5, CardTypeEnum.WHITE, Set.of());
+
+        assertStatements(1, 0, 0, 0);
+    }
+
+    @Test
+    void testPlayCard() {
+        Game game = playingRound();
+        long cardId = playerService.findByUserId(1L).getHand().get(0).getCard().getId();
+
+        SqlStatementCounter.reset();
+        gameService.playCard(game, 1L, cardId);
+
+        assertStatements(10, 1, 0, 1);
+    }
+
+    @Test
+    void testVoteForCard() {
+        Game game = votingRound();
+        long cardId = game.getTable().getPlayedCards().get(0).getCard().getId();
+
+        SqlStatementCounter.reset();
+        gameService.voteForCard(game, 1L, cardId);
+
+        assertStatements(12, 1, 1, 0);
+    }
+
+    @Test
+    void testGetMostVotedCard() {
+        Game game = endingRound();
+
+        SqlStatementCounter.reset();
+        gameService.getMostVotedCard(game.getId());
+
+        assertStatements(8, 0, 0, 0);
+    }
+
+    @Test
+    void testEndRound() {
+        Game game = endingRound();
+
+        SqlStatementCounter.reset();
+        gameService.endRound(game);
+
+        assertStatements(1, 0, 1, 2);
+    }
+
+    @Test
+    void testVoteForDeletion() {
+        gameService.startGame(gameService.getByRoomId(0L));
+        Game game = reload();
+
+        SqlStatementCounter.reset();
+        gameService.voteForDeletion(game, 1L);
+
+        assertStatements(4, 1, 1, 0);
+    }
+
+    @Test
+    void testGetByRoomId() {
+        reload();
+
+        SqlStatementCounter.reset();
+        gameService.getByRoomId(0L);
+
+        assertStatements(1, 0, 0, 0);
+    }
+
+    // Table service
+
+    @Test
+    void testTableCreate() {
+        Game game = gameService.getByRoomId(1L);
+        getCurrentSession().flush();
+        getCurrentSession().clear();
+        game = gameService.getByRoomId(1L);
+
+        SqlStatementCounter.reset();
+        tableService.create(game);
+
+        assertStatements(2, 1, 0, 0);
+    }
+
+    @Test
+    void testTableSetStatus() {
+        Game game = playingRound();
+
+        SqlStatementCounter.reset();
+        tableService.setStatus(game, TableStatusEnum.VOTING);
+
+        assertStatements(0, 0, 1, 0);
+    }
+
+    @Test
+    void testTablePlayCard() {
+        Game game = playingRound();
+        Player player = playerService.findByUserId(1L);
+        Card card = player.getHand().get(0).getCard();
+
+        SqlStatementCounter.reset();
+        tableService.playCard(game, player, card);
+
+        assertStatements(7, 1, 0, 1);
+    }
+
+    @Test
+    void testTableVoteCard() {
+        Game game = votingRound();
+        Player player = playerService.findByUserId(1L);
+        Card card = game.getTable().getPlayedCards().get(0).getCard();
+
+        SqlStatementCounter.reset();
+        tableService.voteCard(game, player, card);
+
+        assertStatements(8, 1, 1, 0);
+    }
+
+    @Test
+    void testTableCheckIfEveryoneHavePlayedACard() {
+        Game game = votingRound();
+
+        SqlStatementCounter.reset();
+        tableService.checkIfEveryoneHavePlayedACard(game);
+
+        assertStatements(6, 0, 0, 0);
+    }
+
+    @Test
+    void testTableCheckIfEveryoneHaveVotedACard() {
+        Game game = endingRound();
+
+        SqlStatementCounter.reset();
+        tableService.checkIfEveryoneHaveVotedACard(game);
+
+        assertStatements(4, 0, 0, 0);
+    }
+
+    @Test
+    void testTableEndRound() {
+        Game game = endingRound();
+
+        SqlStatementCounter.reset();
+        tableService.endRound(game);
+
+        assertStatements(0, 0, 1, 2);
+    }
+
+    // Player service
+
+    @Test
+    void testPlayerCreate() {
+        Game game = gameService.getByRoomId(1L);
+
+        SqlStatementCounter.reset();
+        playerService.create(game, 4L);
+
+        assertStatements(3, 1, 0, 0);
+    }
+
+    @Test
+    void testPlayerDelete() {
+        Player player = playingRound().getPlayers().get(1);
+
+        SqlStatementCounter.reset();
+        playerService.delete(player);
+
+        assertStatements(8, 0, 0, 0);
+    }
+
+    @Test
+    void testPlayerTransferWhiteCardsFromGameDeckToPlayerHand() {
+        List<Card> cards = List.of(cardService.getCardById(3L), cardService.getCardById(4L), cardService.getCardById(5L));
+        Player player = playerService.findByUserId(1L);
+
+        SqlStatementCounter.reset();
+        playerService.transferWhiteCardsFromGameDeckToPlayerHand(player, cards);
+
+        assertStatements(4, 1, 0, 0);
+    }
+
+    @Test
+    void testPlayerTransferWhiteCardsFromGameDeckToPlayerHands() {
+        List<Card> cards = List.of(cardService.getCardById(3L), cardService.getCardById(4L), cardService.getCardById(5L), cardService.getCardById(6L));
+        Map<Player, Integer> missingCardsByPlayer = Map.of(playerService.findByUserId(0L), 2, playerService.findByUserId(1L), 2);
+
+        SqlStatementCounter.reset();
+        playerService.transferWhiteCardsFromGameDeckToPlayerHands(missingCardsByPlayer, cards);
+
+        assertStatements(2, 1, 0, 0);
+    }
+
+    @Test
+    void testPlayerRemoveCardFromHand() {
+        playingRound();
+        Player player = playerService.findByUserId(1L);
+        Card card = player.getHand().get(0).getCard();
+
+        SqlStatementCounter.reset();
+        playerService.removeCardFromHand(player, card);
+
+        assertStatements(5, 0, 0, 1);
+    }
+
+    @Test
+    void testPlayerIncrementPoints() {
+        Player player = playerService.findByUserId(1L);
+
+        SqlStatementCounter.reset();
+        playerService.incrementPoints(player);
+
+        assertStatements(0, 0, 1, 0);
+    }
+
+    @Test
+    void testPlayerFindByUserId() {
+        SqlStatementCounter.reset();
+        playerService.findByUserId(1L);
+
+        assertStatements(2, 0, 0, 0);
+    }
+
+    @Test
+    void testPlayerFindByUser() {
+        getCurrentSession().clear();
+
+        SqlStatementCounter.reset();
+        playerService.findByUser(userService.getById(1L));
+
+        assertStatements(2, 0, 0, 0);
+    }
+
+    private Game reload() {
+        getCurrentSession().flush();
+        getCurrentSession().clear();
+
+        return gameService.getByRoomId(0L);
+    }
+
+    private Game playingRound() {
+        gameService.setType(gameService.getByRoomId(0L), GameTypeEnum.DEMOCRACY);
+        gameService.startGame(gameService.getByRoomId(0L));
+        gameService.startRound(gameService.getByRoomId(0L));
+
+        return reload();
+    }
+
+    private Game votingRound() {
+        Game game = playingRound();
+        for (Player player : List.copyOf(game.getPlayers())) {
+            game = gameService.playCard(game, player.getUser().getId(), player.getHand().get(0).getCard().getId());
+        }
+
+        return reload();
+    }
+
+    private Game endingRound() {
+        Game game = votingRound();
+        long cardId = game.getTable().getPlayedCards().get(0).getCard().getId();
+        for (Player player : List.copyOf(game.getPlayers())) {
+            game = gameService.voteForCard(game, player.getUser().getId(), cardId);
+        }
+
+        return reload();
+    }
+
+}
@@ -28,6 +28,27 @@ class TableServiceTest extends BaseTest {
         PlayedCard mostVotedCard = tableService.getMostVotedCard(10L);
 
         Assertions.assertNotNull(mostVotedCard);
+        Assertions.assertEquals(0L, mostVotedCard.getCard().getId());
+        Assertions.assertEquals(2, mostVotedCard.getVotes());
+    }
+
+    @Test
+    @DatabaseSetup("classpath:dbunit/service/setup/tableplayedcards.xml")
+    void testGetMostVotedCard_Tie() {
+        getCurrentSession().createNativeMutationQuery("UPDATE t_table_playedcards SET votes=1").executeUpdate();
+
+        PlayedCard mostVotedCard = tableService.getMostVotedCard(10L);
+
+        Assertions.assertNotNull(mostVotedCard);
+        Assertions.assertEquals(0L, mostVotedCard.getCard().getId());
+    }
+
+    @Test
+    @DatabaseSetup("classpath:dbunit/service/setup/tableplayedcards.xml")
+    void testGetMostVotedCard_NoVotes() {
+        getCurrentSession().createNativeMutationQuery("UPDATE t_table_playedcards SET votes=0").executeUpdate();
+
+        Assertions.assertNull(tableService.getMostVotedCard(10L));
     }
 
 }
@@ -0,0 +1,54 @@
+package org.themarioga.cclh.commons.service;
+
+import com.github.springtestdbunit.annotation.DatabaseSetup;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.themarioga.cclh.commons.BaseTest;
+import org.themarioga.cclh.commons.services.intf.LanguageService;
+import org.themarioga.cclh.commons.services.intf.TagService;
+
+@DatabaseSetup("classpath:dbunit/service/setup/lang.xml")
+@DatabaseSetup("classpath:dbunit/service/setup/tag.xml")
+class TagServiceTest extends BaseTest {
+
+    @Autowired
+    TagService tagService;
+
+    @Autowired
+    LanguageService languageService;
+
+    @Test
+    void testGetTagText() {
+        String text = tagService.getTagText("GAME_CREATED", languageService.getLanguage("es"), "Pepe");
+
+        Assertions.assertEquals("Partida creada por Pepe", text);
+    }
+
+    @Test
+    void testGetTagText_FallbackToDefaultLanguage() {
+        String text = tagService.getTagText("GAME_STARTED", languageService.getLanguage("EN"));
+
+        Assertions.assertEquals("La partida ha comenzado", text);
+    }
+
+    @Test
+    void testGetTagText_OnlyInLanguage() {
+        Assertions.assertEquals("Game deleted by Pepe", tagService.getTagText("GAME_DELETED", languageService.getLanguage("EN"), "Pepe"));
+        Assertions.assertNull(tagService.getTagText("GAME_DELETED", languageService.getLanguage("es"), "Pepe"));
+    }
+
+    @Test
+    void testGetTagText_Cached() {
+        tagService.getTagText("GAME_CREATED", languageService.getLanguage("es"), "Pepe");
+
+        getCurrentSession().createNativeMutationQuery("DELETE FROM t_tag").executeUpdate();
+
+        Assertions.assertEquals("Partida creada por Pepe", tagService.getTagText("GAME_CREATED", languageService.getLanguage("es"), "Pepe"));
+
+        tagService.reload();
+
+        Assertions.assertNull(tagService.getTagText("GAME_CREATED", languageService.getLanguage("es"), "Pepe"));
+    }
+
+}
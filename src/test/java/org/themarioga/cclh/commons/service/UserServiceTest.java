@@ -12,6 +12,7 @@ import org.themarioga.cclh.commons.models.User;
 import org.themarioga.cclh.commons.services.intf.LanguageService;
 import org.themarioga.cclh.commons.services.intf.UserService;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @DatabaseSetup("classpath:dbunit/service/setup/lang.xml")
@@ -116,6 +117,46 @@ class UserServiceTest extends BaseTest {
         Assertions.assertEquals(true, user.getActive());
     }
 
+    @Test
+    void testGetByUsername_Normalised() {
+        User user = userService.getByUsername(" @FIRST ");
+
+        Assertions.assertEquals(0L, user.getId());
+    }
+
+    @Test
+    void testGetByUsername_NoPartialMatch() {
+        Assertions.assertThrows(UserDoesntExistsException.class, () -> userService.getByUsername("irs"));
+    }
+
+    @Test
+    void testGetByUsername_SharedName() {
+        userService.createOrReactivate(10L, "@First", languageService.getDefaultLanguage());
+        getCurrentSession().flush();
+
+        // Both keep the username, the newer user is found first
+        Assertions.assertEquals(10L, userService.getByUsername("first").getId());
+        Assertions.assertEquals("first", userService.getById(0L).getUsername());
+    }
+
+    @Test
+    void testGetByUsername_SharedNameActiveFirst() {
+        userService.rename(userService.getById(1L), "Third");
+        getCurrentSession().flush();
+
+        // The other Third has a higher id but is not active
+        Assertions.assertEquals(1L, userService.getByUsername("Third").getId());
+    }
+
+    @Test
+    void testSearchByUsername() {
+        List<User> users = userService.searchByUsername("F", 10);
+
+        // Inactive users are left out and the rest come in username order
+        Assertions.assertEquals(List.of("fifth", "first", "fourth"), users.stream().map(User::getUsername).toList());
+        Assertions.assertEquals(2, userService.searchByUsername("f", 2).size());
+    }
+
     @Test
     void testGetAllUsers() {
         List<User> userList = userService.getAllUsers();
@@ -123,4 +164,20 @@ class UserServiceTest extends BaseTest {
         Assertions.assertEquals(7, userList.size());
     }
 
+    @Test
+    void testForEachUser() {
+        List<Long> ids = new ArrayList<>();
+        userService.forEachUser(user -> ids.add(user.getId()));
+
+        Assertions.assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L), ids);
+    }
+
+    @Test
+    void testForEachUser_ChangesKept() {
+        userService.forEachUser(user -> user.setActive(false));
+        getCurrentSession().clear();
+
+        Assertions.assertTrue(userService.getAllUsers().stream().noneMatch(User::getActive));
+    }
+
 }
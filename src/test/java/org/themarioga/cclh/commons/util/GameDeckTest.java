@@ -0,0 +1,76 @@
+package org.themarioga.cclh.commons.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+class GameDeckTest {
+
+    @Test
+    void testDeckOrder_CardId() {
+        long seed = 123456789L;
+        for (long cardId = 0; cardId < 1000; cardId++) {
+            Assertions.assertEquals(cardId, DeckOrder.cardId(seed, DeckOrder.key(seed, cardId)));
+        }
+    }
+
+    @Test
+    void testGameDeck_Draw() {
+        long[] cardIds = LongStream.range(0, 100).toArray();
+        GameDeck gameDeck = new GameDeck(42L, cardIds, null);
+
+        long[] drawnCardIds = gameDeck.draw(100);
+
+        Assertions.assertEquals(0, gameDeck.remaining());
+        Assertions.assertArrayEquals(cardIds, Arrays.stream(drawnCardIds).sorted().toArray());
+        Assertions.assertFalse(Arrays.equals(cardIds, drawnCardIds));
+        Assertions.assertEquals(0, gameDeck.draw(5).length);
+        Assertions.assertThrows(IllegalStateException.class, gameDeck::draw);
+    }
+
+    @Test
+    void testGameDeck_RoundTrip() {
+        long[] cardIds = LongStream.range(0, 100).toArray();
+
+        GameDeck gameDeck = new GameDeck(7L, cardIds, null);
+        gameDeck.draw(15);
+
+        GameDeck restoredGameDeck = new GameDeck(7L, cardIds, gameDeck.getCursor());
+
+        Assertions.assertEquals(85, restoredGameDeck.remaining());
+        Assertions.assertArrayEquals(gameDeck.draw(85), restoredGameDeck.draw(85));
+    }
+
+    @Test
+    void testGameDeck_CursorCardDeleted() {
+        long[] cardIds = LongStream.range(0, 10).toArray();
+        GameDeck gameDeck = new GameDeck(3L, cardIds, null);
+        long[] drawnCardIds = gameDeck.draw(3);
+        Long cursor = gameDeck.getCursor();
+
+        // The last drawn card is no longer in the dictionary
+        long[] remainingCardIds = Arrays.stream(cardIds).filter(cardId -> cardId != drawnCardIds[2]).toArray();
+        GameDeck restoredGameDeck = new GameDeck(3L, remainingCardIds, cursor);
+
+        Assertions.assertEquals(7, restoredGameDeck.remaining());
+        Assertions.assertArrayEquals(gameDeck.draw(7), restoredGameDeck.draw(7));
+    }
+
+    @Test
+    void testGameDeck_DrawCardsInPlay() {
+        long[] cardIds = LongStream.range(0, 10).toArray();
+        long[] shuffledCardIds = new GameDeck(5L, cardIds, null).draw(10);
+
+        // A game started before the seed, its players hold cards from anywhere in the deck
+        Set<Long> cardIdsInPlay = Set.of(shuffledCardIds[0], shuffledCardIds[2], shuffledCardIds[9]);
+        GameDeck gameDeck = new GameDeck(5L, cardIds, null);
+
+        Assertions.assertArrayEquals(new long[]{shuffledCardIds[1], shuffledCardIds[3]}, gameDeck.draw(2, cardIdsInPlay));
+        Assertions.assertArrayEquals(new long[]{shuffledCardIds[4], shuffledCardIds[5], shuffledCardIds[6], shuffledCardIds[7], shuffledCardIds[8]}, gameDeck.draw(10, cardIdsInPlay));
+        Assertions.assertEquals(0, gameDeck.remaining());
+    }
+
+}
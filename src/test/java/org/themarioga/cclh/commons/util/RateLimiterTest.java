@@ -0,0 +1,48 @@
+package org.themarioga.cclh.commons.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+class RateLimiterTest {
+
+    @Test
+    void testReserve_SpacesBatches() {
+        AtomicLong clock = new AtomicLong();
+        RateLimiter rateLimiter = new RateLimiter(30, clock::get);
+
+        // 30 permits per second, batches of 10 go out every third of a second
+        Assertions.assertEquals(0, rateLimiter.reserve(10));
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(333), rateLimiter.reserve(10), TimeUnit.MILLISECONDS.toNanos(1));
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(667), rateLimiter.reserve(10), TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    @Test
+    void testReserve_NoBurstAfterIdle() {
+        AtomicLong clock = new AtomicLong();
+        RateLimiter rateLimiter = new RateLimiter(30, clock::get);
+
+        rateLimiter.reserve(30);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        // Idle time is not saved, only one batch goes out straight away
+        Assertions.assertEquals(0, rateLimiter.reserve(30));
+        Assertions.assertEquals(TimeUnit.SECONDS.toNanos(1), rateLimiter.reserve(30), TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    @Test
+    void testAcquire_Waits() throws InterruptedException {
+        RateLimiter rateLimiter = new RateLimiter(100);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.acquire(5);
+        }
+
+        // 25 permits at 100 per second, the first batch does not wait
+        Assertions.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(190));
+    }
+
+}
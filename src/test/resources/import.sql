@@ -0,0 +1,5 @@
+CREATE TABLE IF NOT EXISTS t_configuration (conf_key VARCHAR(1000) NOT NULL, conf_value VARCHAR(1000) NOT NULL, PRIMARY KEY (conf_key));
+INSERT INTO t_configuration VALUES ('game_whitecards_in_hand', '5'), ('game_default_game_type', '0'), ('game_default_game_punctuation_type', '0'), ('game_default_game_legth', '5'), ('game_min_number_of_players', '3'), ('game_max_number_of_players', '9'), ('game_default_dictionary_id', '1'), ('game_dictionaries_per_page', '5');
+INSERT INTO t_configuration VALUES ('cclh_bot_alias', '@cclhbot'), ('default_language', 'es');
+INSERT INTO t_configuration VALUES ('dictionaries_min_whitecards', '405'), ('dictionaries_min_blackcards', '50'), ('dictionaries_max_whitecards', '600'), ('dictionaries_max_blackcards', '200'), ('dictionaries_max_whitecard_length', '90'), ('dictionaries_max_blackcard_length', '130'), ('dictionaries_max_collaborators', '10');
+INSERT INTO t_configuration VALUES ('configuration_version', '1');